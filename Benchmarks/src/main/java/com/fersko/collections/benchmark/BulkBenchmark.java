@@ -0,0 +1,80 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bulk operations: addAll, removeRange, removeIf and removal through a list iterator.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BulkBenchmark {
+
+    /**
+     * List state that is refilled before every bulk operation.
+     */
+    @State(Scope.Thread)
+    public static class RefilledState extends ListState {
+
+        @Setup(Level.Invocation)
+        public void refill() {
+            fill();
+        }
+    }
+
+    @Benchmark
+    public MyList<Object> addAllArray(ListState state) {
+        MyList<Object> list = state.kind.create();
+        list.addAll(state.elements);
+        return list;
+    }
+
+    @Benchmark
+    public MyList<Object> addAllList(ListState state) {
+        MyList<Object> list = state.kind.create();
+        list.addAll(state.list);
+        return list;
+    }
+
+    @Benchmark
+    public MyList<Object> removeRangeMiddleHalf(RefilledState state) {
+        int size = state.list.size();
+        state.list.removeRange(size / 4, size - size / 4);
+        return state.list;
+    }
+
+    @Benchmark
+    public boolean removeIfEveryOther(RefilledState state) {
+        int[] counter = new int[1];
+        return state.list.removeIf(elm -> (counter[0]++ & 1) == 0);
+    }
+
+    @Benchmark
+    public MyList<Object> listIteratorRemoveEveryOther(RefilledState state) {
+        ListIterator<Object> it = state.list.listIterator();
+        while (it.hasNext()) {
+            it.next();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        return state.list;
+    }
+}
@@ -0,0 +1,93 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.AppendOnlyList;
+import com.fersko.collections.list.MyArrayList;
+import com.fersko.collections.list.MyList;
+import com.fersko.collections.list.StripedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded throughput of the concurrent lists against a MyArrayList behind one global lock.
+ * Change the thread count of {@link #append} with {@code -t}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentListBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    private static final int INITIAL_SIZE = 1024;
+
+    @Param({"STRIPED", "APPEND_ONLY", "GLOBAL_LOCK"})
+    public String kind;
+
+    private MyList<Integer> list;
+
+    /**
+     * Starts every iteration from a fresh list, so appends do not accumulate across iterations.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (kind) {
+            case "STRIPED":
+                list = new StripedList<>();
+                break;
+            case "APPEND_ONLY":
+                list = new AppendOnlyList<>();
+                break;
+            default:
+                list = new GlobalLockList<>(new MyArrayList<>());
+        }
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void append() {
+        list.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public void mixedAppend() {
+        list.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public Integer mixedGet() {
+        return list.get(ThreadLocalRandom.current().nextInt(INITIAL_SIZE));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public boolean mixedContains() {
+        return list.contains(ThreadLocalRandom.current().nextInt(64));
+    }
+}
@@ -0,0 +1,37 @@
+package com.fersko.collections.benchmark;
+
+/**
+ * Element types the benchmarks fill the lists with.
+ */
+public enum ElementType {
+
+    INTEGER {
+        @Override
+        public Comparable<?> valueOf(int i) {
+            return i;
+        }
+    },
+
+    LONG {
+        @Override
+        public Comparable<?> valueOf(int i) {
+            return (long) i * 31L;
+        }
+    },
+
+    STRING {
+        @Override
+        public Comparable<?> valueOf(int i) {
+            return "elm-" + i;
+        }
+    };
+
+    /**
+     * Returns the element with the specified ordinal. Equal ordinals
+     * produce equal elements and the natural order follows no particular pattern.
+     *
+     * @param i the ordinal of the element.
+     * @return the element.
+     */
+    public abstract Comparable<?> valueOf(int i);
+}
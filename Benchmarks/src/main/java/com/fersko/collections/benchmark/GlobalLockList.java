@@ -0,0 +1,116 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyList;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.function.Predicate;
+
+/**
+ * Wraps a MyList so that every operation holds one global lock.
+ * Baseline for the concurrent list benchmarks.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class GlobalLockList<T> implements MyList<T> {
+
+    private final MyList<T> list;
+
+    /**
+     * Constructs a wrapper guarding the specified list.
+     *
+     * @param list the list to delegate to.
+     */
+    public GlobalLockList(MyList<T> list) {
+        this.list = list;
+    }
+
+    @Override
+    public synchronized void add(int idx, T elm) {
+        list.add(idx, elm);
+    }
+
+    @Override
+    public synchronized void add(T elm) {
+        list.add(elm);
+    }
+
+    @Override
+    public synchronized T get(int idx) {
+        return list.get(idx);
+    }
+
+    @Override
+    public synchronized T set(int idx, T elm) {
+        return list.set(idx, elm);
+    }
+
+    @Override
+    public synchronized void clean() {
+        list.clean();
+    }
+
+    @Override
+    public synchronized T remove(int idx) {
+        return list.remove(idx);
+    }
+
+    @Override
+    public synchronized boolean remove(T elm) {
+        return list.remove(elm);
+    }
+
+    @Override
+    public synchronized void removeRange(int fromIdx, int toIdx) {
+        list.removeRange(fromIdx, toIdx);
+    }
+
+    @Override
+    public synchronized boolean removeIf(Predicate<? super T> filter) {
+        return list.removeIf(filter);
+    }
+
+    @Override
+    public synchronized void sort(Comparator<T> comparator) {
+        list.sort(comparator);
+    }
+
+    @Override
+    public synchronized int size() {
+        return list.size();
+    }
+
+    @Override
+    public synchronized boolean contains(T elm) {
+        return list.contains(elm);
+    }
+
+    @Override
+    public synchronized int indexOf(T elm) {
+        return list.indexOf(elm);
+    }
+
+    @Override
+    public synchronized int lastIndexOf(T elm) {
+        return list.lastIndexOf(elm);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized T[] toArray() {
+        return (T[]) Arrays.copyOf(list.toArray(), list.size());
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Arrays.asList(toArray()).iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return Collections.unmodifiableList(Arrays.asList(toArray())).listIterator();
+    }
+}
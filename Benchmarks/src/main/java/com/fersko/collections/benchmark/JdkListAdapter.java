@@ -0,0 +1,115 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyList;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Predicate;
+
+/**
+ * Adapter exposing a java.util.List through the MyList interface,
+ * so the JDK collections can be measured by the same benchmarks.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class JdkListAdapter<T> implements MyList<T> {
+
+    private final List<T> list;
+
+    /**
+     * Constructs an adapter over the specified list.
+     *
+     * @param list the list to delegate to.
+     */
+    public JdkListAdapter(List<T> list) {
+        this.list = list;
+    }
+
+    @Override
+    public void add(int idx, T elm) {
+        list.add(idx, elm);
+    }
+
+    @Override
+    public void add(T elm) {
+        list.add(elm);
+    }
+
+    @Override
+    public T get(int idx) {
+        return list.get(idx);
+    }
+
+    @Override
+    public T set(int idx, T elm) {
+        return list.set(idx, elm);
+    }
+
+    @Override
+    public void clean() {
+        list.clear();
+    }
+
+    @Override
+    public T remove(int idx) {
+        return list.remove(idx);
+    }
+
+    @Override
+    public boolean remove(T elm) {
+        return list.remove(elm);
+    }
+
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        list.subList(fromIdx, toIdx).clear();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return list.removeIf(filter);
+    }
+
+    @Override
+    public void sort(Comparator<T> comparator) {
+        list.sort(comparator);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean contains(T elm) {
+        return list.contains(elm);
+    }
+
+    @Override
+    public int indexOf(T elm) {
+        return list.indexOf(elm);
+    }
+
+    @Override
+    public int lastIndexOf(T elm) {
+        return list.lastIndexOf(elm);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        return (T[]) list.toArray();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return list.listIterator();
+    }
+}
@@ -0,0 +1,90 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.IndexLinkedList;
+import com.fersko.collections.list.MyArrayList;
+import com.fersko.collections.list.MyLinkedList;
+import com.fersko.collections.list.MyList;
+import com.fersko.collections.list.RingBufferList;
+import com.fersko.collections.list.SegmentedList;
+import com.fersko.collections.list.TreeList;
+import com.fersko.collections.list.UnrolledLinkedList;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+/**
+ * List implementations compared by the benchmarks.
+ */
+public enum ListKind {
+
+    MY_ARRAY_LIST {
+        @Override
+        public <T> MyList<T> create() {
+            return new MyArrayList<>();
+        }
+    },
+
+    MY_LINKED_LIST {
+        @Override
+        public <T> MyList<T> create() {
+            return new MyLinkedList<>();
+        }
+    },
+
+    INDEX_LINKED_LIST {
+        @Override
+        public <T> MyList<T> create() {
+            return new IndexLinkedList<>();
+        }
+    },
+
+    RING_BUFFER_LIST {
+        @Override
+        public <T> MyList<T> create() {
+            return new RingBufferList<>();
+        }
+    },
+
+    SEGMENTED_LIST {
+        @Override
+        public <T> MyList<T> create() {
+            return new SegmentedList<>();
+        }
+    },
+
+    UNROLLED_LINKED_LIST {
+        @Override
+        public <T> MyList<T> create() {
+            return new UnrolledLinkedList<>();
+        }
+    },
+
+    TREE_LIST {
+        @Override
+        public <T> MyList<T> create() {
+            return new TreeList<>();
+        }
+    },
+
+    ARRAY_LIST {
+        @Override
+        public <T> MyList<T> create() {
+            return new JdkListAdapter<>(new ArrayList<>());
+        }
+    },
+
+    LINKED_LIST {
+        @Override
+        public <T> MyList<T> create() {
+            return new JdkListAdapter<>(new LinkedList<>());
+        }
+    };
+
+    /**
+     * Creates a new empty list of this kind.
+     *
+     * @param <T> the type of elements stored in the list.
+     * @return a new empty list.
+     */
+    public abstract <T> MyList<T> create();
+}
@@ -0,0 +1,93 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyList;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Benchmark state holding a list of the requested kind filled with
+ * {@code size} elements of the requested type in shuffled order.
+ */
+@State(Scope.Thread)
+public class ListState {
+
+    private static final long SEED = 42L;
+
+    @Param({"MY_ARRAY_LIST", "MY_LINKED_LIST", "INDEX_LINKED_LIST", "RING_BUFFER_LIST", "SEGMENTED_LIST",
+            "UNROLLED_LINKED_LIST", "TREE_LIST", "ARRAY_LIST", "LINKED_LIST"})
+    public ListKind kind;
+
+    @Param({"INTEGER", "LONG", "STRING"})
+    public ElementType type;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    public MyList<Object> list;
+
+    public Object[] elements;
+
+    public Object absent;
+
+    public Comparator<Object> comparator;
+
+    private int[] indices;
+
+    private int cursor;
+
+    /**
+     * Builds the shuffled element pool and fills the list.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = type.valueOf(i);
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object tmp = elements[i];
+            elements[i] = elements[j];
+            elements[j] = tmp;
+        }
+        absent = type.valueOf(-1);
+        comparator = naturalOrder();
+
+        indices = new int[1024];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+
+        fill();
+    }
+
+    /**
+     * Replaces the list with a new one holding the element pool in its original shuffled order.
+     */
+    public void fill() {
+        list = kind.create();
+        for (Object elm : elements) {
+            list.add(elm);
+        }
+    }
+
+    /**
+     * @return the next pseudo-random index in range [0, size).
+     */
+    public int nextIndex() {
+        cursor = (cursor + 1) & (indices.length - 1);
+        return indices[cursor];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Object> naturalOrder() {
+        return (Comparator) Comparator.naturalOrder();
+    }
+}
@@ -0,0 +1,94 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures add and remove churn on MyLinkedList with and without node pooling. Run with the
+ * GC profiler ({@code -prof gc}, or through {@link #main(String[])}) to compare
+ * {@code gc.alloc.rate.norm}, which drops to zero bytes per operation with the pool enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NodePoolBenchmark {
+
+    private static final int BATCH = 64;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private MyLinkedList<Integer> list;
+
+    private Integer[] batch;
+
+    private Integer value;
+
+    @Setup
+    public void setUp() {
+        list = new MyLinkedList<>();
+        if (pooled) {
+            list.enableNodePool(BATCH);
+        }
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        batch = new Integer[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            batch[i] = -i;
+        }
+        value = -1;
+    }
+
+    /**
+     * Appends at the tail and removes at the head, as a queue does.
+     */
+    @Benchmark
+    public Integer queueChurn() {
+        list.add(value);
+        return list.remove(0);
+    }
+
+    @Benchmark
+    public boolean removeElementReAdd() {
+        boolean removed = list.remove(value);
+        list.add(value);
+        return removed;
+    }
+
+    @Benchmark
+    public int batchChurn() {
+        list.addAll(batch);
+        list.removeRange(size, size + BATCH);
+        return list.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NodePoolBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.ElementCodec;
+import com.fersko.collections.list.MyArrayList;
+import com.fersko.collections.list.MyList;
+import com.fersko.collections.list.OffHeapList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares OffHeapList with MyArrayList&lt;Long&gt;. Run with {@code -prof gc}
+ * to compare the heap allocation of both lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OffHeapBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private OffHeapList<Long> offHeapList;
+
+    private MyArrayList<Long> heapList;
+
+    @Setup
+    public void setUp() {
+        offHeapList = new OffHeapList<>(ElementCodec.ofLong());
+        heapList = new MyArrayList<>();
+        for (long i = 0; i < size; i++) {
+            offHeapList.add(i);
+            heapList.add(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        offHeapList.close();
+    }
+
+    @Benchmark
+    public int fillOffHeap() {
+        try (OffHeapList<Long> list = new OffHeapList<>(ElementCodec.ofLong())) {
+            return fill(list);
+        }
+    }
+
+    @Benchmark
+    public int fillHeap() {
+        return fill(new MyArrayList<>());
+    }
+
+    @Benchmark
+    public long sumOffHeap() {
+        return sum(offHeapList);
+    }
+
+    @Benchmark
+    public long sumHeap() {
+        return sum(heapList);
+    }
+
+    private int fill(MyList<Long> list) {
+        for (long i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list.size();
+    }
+
+    private long sum(MyList<Long> list) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,76 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential and the fork-join sort of MyArrayList.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParallelSortBenchmark {
+
+    /**
+     * MyArrayList refilled with shuffled integers before every sort.
+     */
+    @State(Scope.Thread)
+    public static class UnsortedArrayState {
+
+        @Param({"100000", "1000000", "10000000"})
+        public int size;
+
+        @Param({"8192"})
+        public int threshold;
+
+        public MyArrayList<Integer> list;
+
+        private Integer[] elements;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42L);
+            elements = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = random.nextInt();
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void fill() {
+            list = new MyArrayList<>(size);
+            for (Integer elm : elements) {
+                list.add(elm);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object sequentialSort(UnsortedArrayState state) {
+        state.list.sort(Comparator.naturalOrder());
+        return state.list;
+    }
+
+    @Benchmark
+    public Object parallelSort(UnsortedArrayState state) {
+        state.list.parallelSort(Comparator.naturalOrder(), state.threshold);
+        return state.list;
+    }
+}
@@ -0,0 +1,137 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.IntList;
+import com.fersko.collections.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares IntList with MyArrayList&lt;Integer&gt; on fill, get, iteration, search and sort.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private int[] values;
+
+    private IntList intList;
+
+    private MyArrayList<Integer> boxedList;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        values = new int[size];
+        intList = new IntList();
+        boxedList = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+            intList.add(values[i]);
+            boxedList.add(values[i]);
+        }
+    }
+
+    @Benchmark
+    public IntList fillIntList() {
+        IntList list = new IntList();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> fillBoxedList() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumByIndexIntList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += intList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumByIndexBoxedList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += boxedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumIteratorIntList() {
+        long sum = 0;
+        PrimitiveIterator.OfInt iterator = intList.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumIteratorBoxedList() {
+        long sum = 0;
+        for (Integer value : boxedList) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public boolean containsIntList() {
+        return intList.contains(values[0] ^ 1) && intList.contains(values[0]);
+    }
+
+    @Benchmark
+    public boolean containsBoxedList() {
+        return boxedList.contains(values[0] ^ 1) && boxedList.contains(values[0]);
+    }
+
+    @Benchmark
+    public IntList sortIntList() {
+        IntList list = new IntList(size);
+        list.addAll(values);
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> sortBoxedList() {
+        MyArrayList<Integer> list = new MyArrayList<>(size);
+        for (int value : values) {
+            list.add(value);
+        }
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+}
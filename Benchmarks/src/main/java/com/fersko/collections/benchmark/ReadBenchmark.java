@@ -0,0 +1,59 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the read-only operations: get, contains, toArray, iteration and an indexed get loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadBenchmark {
+
+    @Benchmark
+    public Object get(ListState state) {
+        return state.list.get(state.nextIndex());
+    }
+
+    @Benchmark
+    public boolean containsPresent(ListState state) {
+        return state.list.contains(state.elements[state.nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean containsAbsent(ListState state) {
+        return state.list.contains(state.absent);
+    }
+
+    @Benchmark
+    public Object[] toArray(ListState state) {
+        return state.list.toArray();
+    }
+
+    @Benchmark
+    public void iterate(ListState state, Blackhole blackhole) {
+        for (Object elm : state.list) {
+            blackhole.consume(elm);
+        }
+    }
+
+    @Benchmark
+    public void indexedLoop(ListState state, Blackhole blackhole) {
+        MyList<?> list = state.list;
+        for (int i = 0; i < list.size(); i++) {
+            blackhole.consume(list.get(i));
+        }
+    }
+}
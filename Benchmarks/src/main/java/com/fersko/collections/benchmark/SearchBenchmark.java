@@ -0,0 +1,101 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the search path of MyArrayList, with and without the position index. Run with the GC profiler
+ * ({@code -prof gc}, or through {@link #main(String[])}) to check that
+ * {@code gc.alloc.rate.norm} stays at zero bytes per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private MyArrayList<Integer> list;
+
+    private Integer middle;
+
+    private Integer absent;
+
+    private Integer last;
+
+    @Setup
+    public void setUp() {
+        list = new MyArrayList<>();
+        if (indexed) {
+            list.enableIndex();
+        }
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        middle = size / 2;
+        absent = -1;
+        last = size - 1;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(middle);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absent);
+    }
+
+    @Benchmark
+    public boolean containsNull() {
+        return list.contains(null);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(middle);
+    }
+
+    @Benchmark
+    public int lastIndexOf() {
+        return list.lastIndexOf(middle);
+    }
+
+    @Benchmark
+    public boolean removeLastElementReAdd() {
+        boolean removed = list.remove(last);
+        list.add(last);
+        return removed;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SearchBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
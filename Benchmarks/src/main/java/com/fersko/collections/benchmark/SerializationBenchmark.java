@@ -0,0 +1,91 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.ElementCodec;
+import com.fersko.collections.list.ListSerializer;
+import com.fersko.collections.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ListSerializer snapshots of MyArrayList&lt;Long&gt; with Java serialization
+ * of an ArrayList&lt;Long&gt; holding the same elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private final ListSerializer<Long> serializer = new ListSerializer<>(ElementCodec.ofLong());
+
+    private MyArrayList<Long> myList;
+
+    private ArrayList<Long> jdkList;
+
+    private byte[] snapshot;
+
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() throws IOException {
+        myList = new MyArrayList<>();
+        jdkList = new ArrayList<>();
+        for (long i = 0; i < size; i++) {
+            myList.add(i * 31);
+            jdkList.add(i * 31);
+        }
+        snapshot = writeSnapshot();
+        serialized = writeSerialized();
+    }
+
+    @Benchmark
+    public byte[] writeSnapshot() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size * Long.BYTES + 64);
+        serializer.write(myList, Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeSerialized() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size * Long.BYTES + 64);
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(jdkList);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public MyArrayList<Long> readSnapshot() throws IOException {
+        return serializer.read(Channels.newChannel(new ByteArrayInputStream(snapshot)), new MyArrayList<>());
+    }
+
+    @Benchmark
+    public Object readSerialized() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return ois.readObject();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyArrayList;
+import com.fersko.collections.list.PersistentList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares taking a snapshot of a PersistentList, followed by one change of the original
+ * list that copies the changed path, with copying a whole MyArrayList.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private PersistentList<Integer> persistentList;
+
+    private MyArrayList<Integer> arrayList;
+
+    private Integer value;
+
+    private int idx;
+
+    @Setup
+    public void setUp() {
+        persistentList = new PersistentList<>();
+        arrayList = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            persistentList.add(i);
+            arrayList.add(i);
+        }
+        value = -1;
+    }
+
+    @Benchmark
+    public Object snapshotPersistent() {
+        PersistentList<Integer> snapshot = persistentList.snapshot();
+        persistentList.set(nextIndex(), value);
+        return snapshot;
+    }
+
+    @Benchmark
+    public Object copyArrayList() {
+        MyArrayList<Integer> copy = new MyArrayList<>(size);
+        copy.addAll(arrayList);
+        return copy;
+    }
+
+    @Benchmark
+    public int getPersistent() {
+        return persistentList.get(nextIndex());
+    }
+
+    @Benchmark
+    public int getArrayList() {
+        return arrayList.get(nextIndex());
+    }
+
+    private int nextIndex() {
+        idx = (idx + 7919) % size;
+        return idx;
+    }
+}
@@ -0,0 +1,44 @@
+package com.fersko.collections.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sort(Comparator) on a freshly shuffled list.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SortBenchmark {
+
+    /**
+     * List state that is refilled in shuffled order before every sort.
+     */
+    @State(Scope.Thread)
+    public static class UnsortedState extends ListState {
+
+        @Setup(Level.Invocation)
+        public void shuffle() {
+            fill();
+        }
+    }
+
+    @Benchmark
+    public Object sort(UnsortedState state) {
+        state.list.sort(state.comparator);
+        return state.list;
+    }
+}
@@ -0,0 +1,90 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyArrayList;
+import com.fersko.collections.list.SortedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares searching and combining a SortedList with a MyArrayList that is
+ * sorted by hand and searched linearly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortedListBenchmark {
+
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private SortedList<Integer> sortedList;
+
+    private SortedList<Integer> otherSortedList;
+
+    private MyArrayList<Integer> arrayList;
+
+    private MyArrayList<Integer> otherArrayList;
+
+    private Integer middle;
+
+    @Setup
+    public void setUp() {
+        sortedList = new SortedList<>(ORDER);
+        otherSortedList = new SortedList<>(ORDER);
+        arrayList = new MyArrayList<>();
+        otherArrayList = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            sortedList.add(2 * i);
+            otherSortedList.add(2 * i + 1);
+            arrayList.add(2 * i);
+            otherArrayList.add(2 * i + 1);
+        }
+        middle = size;
+    }
+
+    @Benchmark
+    public boolean containsSorted() {
+        return sortedList.contains(middle);
+    }
+
+    @Benchmark
+    public boolean containsLinear() {
+        return arrayList.contains(middle);
+    }
+
+    @Benchmark
+    public Object rangeSorted() {
+        return sortedList.subList(middle / 2, middle);
+    }
+
+    @Benchmark
+    public Object mergeSorted() {
+        return SortedList.merge(sortedList, otherSortedList);
+    }
+
+    @Benchmark
+    public Object addAllAndSort() {
+        MyArrayList<Integer> merged = new MyArrayList<>(2 * size);
+        merged.addAll(arrayList);
+        merged.addAll(otherArrayList);
+        merged.sort(ORDER);
+        return merged;
+    }
+}
@@ -0,0 +1,77 @@
+package com.fersko.collections.benchmark;
+
+import com.fersko.collections.list.MyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mutating operations. Every benchmark that inserts also removes,
+ * so the list keeps its size for the whole trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriteBenchmark {
+
+    /**
+     * Fills an empty list through add(T).
+     */
+    @Benchmark
+    public MyList<Object> addToEmpty(ListState state) {
+        MyList<Object> list = state.kind.create();
+        for (Object elm : state.elements) {
+            list.add(elm);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object addLastRemoveLast(ListState state) {
+        MyList<Object> list = state.list;
+        list.add(state.absent);
+        return list.remove(list.size() - 1);
+    }
+
+    @Benchmark
+    public Object addRemoveAtIndex(ListState state) {
+        MyList<Object> list = state.list;
+        int idx = state.nextIndex();
+        list.add(idx, state.absent);
+        return list.remove(idx);
+    }
+
+    @Benchmark
+    public Object addRemoveFirst(ListState state) {
+        MyList<Object> list = state.list;
+        list.add(0, state.absent);
+        return list.remove(0);
+    }
+
+    /**
+     * Moves the first element to the end, as a queue consumer that requeues its work does.
+     */
+    @Benchmark
+    public boolean removeFirstAddLast(ListState state) {
+        MyList<Object> list = state.list;
+        list.add(list.remove(0));
+        return true;
+    }
+
+    @Benchmark
+    public boolean removeElementReAdd(ListState state) {
+        MyList<Object> list = state.list;
+        Object elm = list.get(state.nextIndex());
+        boolean removed = list.remove(elm);
+        list.add(elm);
+        return removed;
+    }
+}
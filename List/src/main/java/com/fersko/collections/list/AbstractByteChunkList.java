@@ -0,0 +1,565 @@
+package com.fersko.collections.list;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Base of the MyList implementations storing elements encoded by an {@link ElementCodec}
+ * in ByteBuffer chunks of a fixed number of elements. The list grows by adding chunks,
+ * so existing elements are never copied on growth. Subclasses decide where the chunks live.
+ * Null elements cannot be stored.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+abstract class AbstractByteChunkList<T> implements MyList<T>, AutoCloseable {
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    private static final String CLOSED_ERROR = "List is closed!";
+
+    private final ElementCodec<T> codec;
+
+    final int elementSize;
+
+    private final int chunkShift;
+
+    private final int chunkMask;
+
+    private ByteBuffer[] chunks = new ByteBuffer[8];
+
+    private int chunkCount;
+
+    private int size;
+
+    /**
+     * Number of structural modifications, checked by the list iterator to detect concurrent modification.
+     */
+    private int modCount;
+
+    private boolean closed;
+
+    /**
+     * Constructs an empty list with the specified number of elements per chunk.
+     *
+     * @param codec         the codec encoding the elements.
+     * @param chunkCapacity the number of elements per chunk, a power of two.
+     * @throws IllegalArgumentException if the chunk capacity is not a positive power of two
+     *                                  or a chunk would exceed 2 GB.
+     */
+    AbstractByteChunkList(ElementCodec<T> codec, int chunkCapacity) {
+        if (chunkCapacity <= 0 || Integer.bitCount(chunkCapacity) != 1) {
+            throw new IllegalArgumentException("Error chunk capacity");
+        }
+        if ((long) chunkCapacity * codec.size() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Error chunk capacity");
+        }
+        this.codec = codec;
+        this.elementSize = codec.size();
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkCapacity);
+        this.chunkMask = chunkCapacity - 1;
+    }
+
+    /**
+     * Allocates the chunk with the specified index.
+     *
+     * @param chunkIdx   the index of the chunk.
+     * @param chunkBytes the length of the chunk in bytes.
+     * @return the new chunk.
+     */
+    abstract ByteBuffer allocateChunk(int chunkIdx, int chunkBytes);
+
+    /**
+     * Releases a chunk that is no longer used by the list.
+     *
+     * @param chunk the chunk to be released.
+     */
+    abstract void releaseChunk(ByteBuffer chunk);
+
+    /**
+     * Called after every change of the number of elements.
+     *
+     * @param newSize the new number of elements.
+     */
+    void sizeChanged(int newSize) {
+    }
+
+    /**
+     * Restores the size of a list whose elements are already present in its chunks.
+     *
+     * @param restoredSize the number of elements in the chunks.
+     */
+    void restore(int restoredSize) {
+        ensureCapacityInternal(restoredSize);
+        size = restoredSize;
+    }
+
+    void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException(CLOSED_ERROR);
+        }
+    }
+
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+    }
+
+    /**
+     * Allocates new chunks, if needed, so that the list can hold at least the specified number of elements.
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+    private void ensureCapacityInternal(int minCapacity) {
+        while (((long) chunkCount << chunkShift) < minCapacity) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            chunks[chunkCount] = allocateChunk(chunkCount, (chunkMask + 1) * elementSize);
+            chunkCount++;
+        }
+    }
+
+    private ByteBuffer chunk(int idx) {
+        return chunks[idx >>> chunkShift];
+    }
+
+    private int offset(int idx) {
+        return (idx & chunkMask) * elementSize;
+    }
+
+    private T read(int idx) {
+        return codec.read(chunk(idx), offset(idx));
+    }
+
+    private void write(int idx, T elm) {
+        codec.write(chunk(idx), offset(idx), Objects.requireNonNull(elm));
+    }
+
+    /**
+     * Copies the encoded bytes of the element at index from over the element at index to.
+     */
+    private void copyElement(int from, int to) {
+        ByteBuffer src = chunk(from);
+        ByteBuffer dst = chunk(to);
+        int srcOffset = offset(from);
+        int dstOffset = offset(to);
+        int i = 0;
+        for (; i + Long.BYTES <= elementSize; i += Long.BYTES) {
+            dst.putLong(dstOffset + i, src.getLong(srcOffset + i));
+        }
+        for (; i < elementSize; i++) {
+            dst.put(dstOffset + i, src.get(srcOffset + i));
+        }
+    }
+
+    /**
+     * Swaps the encoded bytes of the elements at the specified indices.
+     */
+    private void swap(int a, int b) {
+        ByteBuffer bufA = chunk(a);
+        ByteBuffer bufB = chunk(b);
+        int offA = offset(a);
+        int offB = offset(b);
+        int i = 0;
+        for (; i + Long.BYTES <= elementSize; i += Long.BYTES) {
+            long tmp = bufA.getLong(offA + i);
+            bufA.putLong(offA + i, bufB.getLong(offB + i));
+            bufB.putLong(offB + i, tmp);
+        }
+        for (; i < elementSize; i++) {
+            byte tmp = bufA.get(offA + i);
+            bufA.put(offA + i, bufB.get(offB + i));
+            bufB.put(offB + i, tmp);
+        }
+    }
+
+    /**
+     * Inserts an element at the specified index in the list.
+     *
+     * @param idx the index at which the specified element is to be inserted.
+     * @param elm the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     * @throws NullPointerException      if the element is null.
+     */
+    @Override
+    public void add(int idx, T elm) {
+        checkOpen();
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        ensureCapacityInternal(size + 1);
+        for (int i = size; i > idx; i--) {
+            copyElement(i - 1, i);
+        }
+        write(idx, elm);
+        sizeChanged(++size);
+        modCount++;
+    }
+
+    /**
+     * Appends the specified element to the end of the list.
+     *
+     * @param elm the element to be appended to the list.
+     * @throws NullPointerException if the element is null.
+     */
+    @Override
+    public void add(T elm) {
+        checkOpen();
+        ensureCapacityInternal(size + 1);
+        write(size, elm);
+        sizeChanged(++size);
+        modCount++;
+    }
+
+    /**
+     * Returns the element at the specified index in the list, decoded onto the heap.
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T get(int idx) {
+        checkOpen();
+        checkIndex(idx);
+        return read(idx);
+    }
+
+    /**
+     * Replaces the element at the specified index in the list.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     * @throws NullPointerException      if the element is null.
+     */
+    @Override
+    public T set(int idx, T elm) {
+        checkOpen();
+        checkIndex(idx);
+        T old = read(idx);
+        write(idx, elm);
+        return old;
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty, and releases its chunks.
+     */
+    @Override
+    public void clean() {
+        checkOpen();
+        releaseChunks();
+        size = 0;
+        sizeChanged(0);
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index in the list.
+     *
+     * @param idx the index of the element to be removed.
+     * @return the element that was removed from the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T remove(int idx) {
+        checkOpen();
+        checkIndex(idx);
+        T removed = read(idx);
+        for (int i = idx + 1; i < size; i++) {
+            copyElement(i, i - 1);
+        }
+        sizeChanged(--size);
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list, if it is present.
+     *
+     * @param elm the element to be removed from the list, if present.
+     * @return true if the list contained the specified element.
+     */
+    @Override
+    public boolean remove(T elm) {
+        int idx = indexOf(elm);
+        if (idx >= 0) {
+            remove(idx);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all elements with index in range [fromIdx, toIdx), shifting the tail once.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index of the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        checkOpen();
+        if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        int removed = toIdx - fromIdx;
+        for (int i = toIdx; i < size; i++) {
+            copyElement(i, i - removed);
+        }
+        size -= removed;
+        sizeChanged(size);
+        modCount++;
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the specified predicate,
+     * compacting the remaining elements in a single pass.
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        checkOpen();
+        int end = size;
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < end; read++) {
+                if (!filter.test(read(read))) {
+                    if (write != read) {
+                        copyElement(read, write);
+                    }
+                    write++;
+                }
+            }
+        } finally {
+            // Keeps the unvisited tail if the predicate throws.
+            for (; read < end; read++) {
+                copyElement(read, write++);
+            }
+            size = write;
+            sizeChanged(size);
+            if (write != end) {
+                modCount++;
+            }
+        }
+        return write != end;
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator.
+     * The sort is an in-place heap sort over the encoded elements, so it needs no
+     * extra memory, but unlike MyArrayList and MyLinkedList it is not stable.
+     *
+     * @param comparator the comparator to determine the order of the list.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        checkOpen();
+        modCount++;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i, size, comparator);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end, comparator);
+        }
+    }
+
+    private void siftDown(int idx, int end, Comparator<T> comparator) {
+        T elm = read(idx);
+        int child;
+        while ((child = 2 * idx + 1) < end) {
+            T childElm = read(child);
+            if (child + 1 < end) {
+                T right = read(child + 1);
+                if (comparator.compare(right, childElm) > 0) {
+                    child++;
+                    childElm = right;
+                }
+            }
+            if (comparator.compare(elm, childElm) >= 0) {
+                break;
+            }
+            swap(idx, child);
+            idx = child;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list contains the specified element.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        checkOpen();
+        if (elm == null) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elm.equals(read(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        checkOpen();
+        if (elm == null) {
+            return -1;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (elm.equals(read(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a heap array containing all of the elements in the list in proper sequence.
+     *
+     * @return an array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        checkOpen();
+        T[] array = (T[]) new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = read(i);
+        }
+        return array;
+    }
+
+    /**
+     * @return an iterator over the elements in this list in proper sequence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new Iterator<>() {
+            private int currentIdx;  // Index of the current element in the iteration.
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return currentIdx < size;
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the iteration.");
+                }
+                return get(currentIdx++);
+            }
+        };
+    }
+
+    /**
+     * Returns a list iterator over the elements in the list, working through its index-based methods.
+     *
+     * @return a list iterator over the elements in the list in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        checkOpen();
+        return new IndexListIterator<>(this, () -> modCount);
+    }
+
+    /**
+     * Releases the chunks held by the list. The list cannot be used afterwards;
+     * closing an already closed list has no effect.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            releaseChunks();
+            size = 0;
+            closed = true;
+        }
+    }
+
+    /**
+     * @return true if the list has been closed.
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Calls the specified action for every chunk currently in use.
+     *
+     * @param action the action to be called.
+     */
+    void forEachChunk(Consumer<ByteBuffer> action) {
+        for (int i = 0; i < chunkCount; i++) {
+            action.accept(chunks[i]);
+        }
+    }
+
+    private void releaseChunks() {
+        for (int i = 0; i < chunkCount; i++) {
+            releaseChunk(chunks[i]);
+            chunks[i] = null;
+        }
+        chunkCount = 0;
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list.
+     */
+    @Override
+    public String toString() {
+        return closed ? "[closed]" : Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,383 @@
+package com.fersko.collections.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Lock-free, append-only implementation of the MyList interface for many concurrent writers.
+ *
+ * <p>Elements live in chunks whose sizes double (32, 64, 128, ...), so the chunk directory has
+ * a fixed length and nothing is ever copied on growth. A writer claims a slot with an atomic
+ * counter, installs missing chunks with CAS and fills its slot; whichever writer fills a slot
+ * advances the published size over every filled slot after it. Readers never block and always
+ * see a consistent prefix of the list: every index below {@link #size()} holds its element.
+ *
+ * <p>Only appends are supported; every operation that would insert in the middle, remove or
+ * reorder elements throws UnsupportedOperationException.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class AppendOnlyList<T> implements MyList<T> {
+
+    private static final int FIRST_CHUNK_SHIFT = 5;
+
+    private static final int FIRST_CHUNK_SIZE = 1 << FIRST_CHUNK_SHIFT;
+
+    private static final int CHUNK_COUNT = Integer.SIZE - 1 - FIRST_CHUNK_SHIFT;
+
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_CHUNK_SIZE;
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Marks slots that are not filled yet.
+     */
+    private static final Object EMPTY = new Object();
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    private static final String UNSUPPORTED_ERROR = "Append-only list!";
+
+    private final AtomicReferenceArray<Object[]> chunks = new AtomicReferenceArray<>(CHUNK_COUNT);
+
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /**
+     * Number of published elements; every slot below it is filled.
+     */
+    private final AtomicInteger committed = new AtomicInteger();
+
+    /**
+     * @return the index of the chunk holding the slot with the specified index.
+     */
+    private static int chunkIndex(int idx) {
+        int pos = idx + FIRST_CHUNK_SIZE;
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(pos) - FIRST_CHUNK_SHIFT;
+    }
+
+    /**
+     * @return the offset of the slot with the specified index inside its chunk.
+     */
+    private static int chunkOffset(int idx, int chunkIdx) {
+        return idx + FIRST_CHUNK_SIZE - (FIRST_CHUNK_SIZE << chunkIdx);
+    }
+
+    /**
+     * Returns the chunk with the specified index, installing it with CAS if it is missing.
+     *
+     * @param chunkIdx the index of the chunk.
+     * @return the chunk.
+     */
+    private Object[] ensureChunk(int chunkIdx) {
+        Object[] chunk = chunks.get(chunkIdx);
+        if (chunk == null) {
+            Object[] created = new Object[FIRST_CHUNK_SIZE << chunkIdx];
+            Arrays.fill(created, EMPTY);
+            if (chunks.compareAndSet(chunkIdx, null, created)) {
+                chunk = created;
+            } else {
+                chunk = chunks.get(chunkIdx);
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Advances the published size over every filled slot, starting from the current size.
+     */
+    private void publish() {
+        int c = committed.get();
+        while (c < reserved.get()) {
+            int chunkIdx = chunkIndex(c);
+            Object[] chunk = chunks.get(chunkIdx);
+            // A slot whose chunk is not installed yet is published by its own writer later.
+            if (chunk == null || SLOT.getVolatile(chunk, chunkOffset(c, chunkIdx)) == EMPTY) {
+                return;
+            }
+            committed.compareAndSet(c, c + 1);
+            c = committed.get();
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of the list without locking.
+     *
+     * @param elm the element to be appended to the list.
+     * @throws IllegalStateException if the list is full.
+     */
+    @Override
+    public void add(T elm) {
+        int idx = reserved.getAndIncrement();
+        if (idx < 0 || idx >= MAX_SIZE) {
+            throw new IllegalStateException("List is full!");
+        }
+        int chunkIdx = chunkIndex(idx);
+        SLOT.setVolatile(ensureChunk(chunkIdx), chunkOffset(idx, chunkIdx), elm);
+        publish();
+    }
+
+    /**
+     * Appends all elements of the specified array to the end of the list as one contiguous block.
+     *
+     * @param elms the elements to be appended to the list.
+     * @throws IllegalStateException if the elements do not fit into the list.
+     */
+    @Override
+    public void addAll(T[] elms) {
+        if (elms.length == 0) {
+            return;
+        }
+        int from = reserved.getAndAdd(elms.length);
+        if (from < 0 || (long) from + elms.length > MAX_SIZE) {
+            throw new IllegalStateException("List is full!");
+        }
+        // The first slot is filled last, so the block is published at once.
+        for (int i = elms.length - 1; i >= 0; i--) {
+            int idx = from + i;
+            int chunkIdx = chunkIndex(idx);
+            SLOT.setVolatile(ensureChunk(chunkIdx), chunkOffset(idx, chunkIdx), elms[i]);
+        }
+        publish();
+    }
+
+    /**
+     * Not supported: the list is append-only.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void add(int idx, T elm) {
+        throw new UnsupportedOperationException(UNSUPPORTED_ERROR);
+    }
+
+    /**
+     * Returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int idx) {
+        if (idx < 0 || idx >= committed.get()) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        int chunkIdx = chunkIndex(idx);
+        return (T) chunks.get(chunkIdx)[chunkOffset(idx, chunkIdx)];
+    }
+
+    /**
+     * Not supported: the list is append-only.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public T set(int idx, T elm) {
+        throw new UnsupportedOperationException(UNSUPPORTED_ERROR);
+    }
+
+    /**
+     * Not supported: the list is append-only.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void clean() {
+        throw new UnsupportedOperationException(UNSUPPORTED_ERROR);
+    }
+
+    /**
+     * Not supported: the list is append-only.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public T remove(int idx) {
+        throw new UnsupportedOperationException(UNSUPPORTED_ERROR);
+    }
+
+    /**
+     * Not supported: the list is append-only.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public boolean remove(T elm) {
+        throw new UnsupportedOperationException(UNSUPPORTED_ERROR);
+    }
+
+    /**
+     * Not supported: the list is append-only.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        throw new UnsupportedOperationException(UNSUPPORTED_ERROR);
+    }
+
+    /**
+     * Not supported: the list is append-only.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw new UnsupportedOperationException(UNSUPPORTED_ERROR);
+    }
+
+    /**
+     * Not supported: the list is append-only.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        throw new UnsupportedOperationException(UNSUPPORTED_ERROR);
+    }
+
+    /**
+     * Returns the number of published elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return committed.get();
+    }
+
+    /**
+     * Checks if the list contains the specified element.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        int size = committed.get();
+        int base = 0;
+        for (int c = 0; base < size; c++) {
+            Object[] chunk = chunks.get(c);
+            int end = Math.min(chunk.length, size - base);
+            for (int i = 0; i < end; i++) {
+                if (Objects.equals(elm, chunk[i])) {
+                    return base + i;
+                }
+            }
+            base += chunk.length;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        for (int i = committed.get() - 1; i >= 0; i--) {
+            if (Objects.equals(elm, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing the elements published when the call started, in proper sequence.
+     *
+     * @return a new array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        int size = committed.get();
+        Object[] array = new Object[size];
+        int base = 0;
+        for (int c = 0; base < size; c++) {
+            Object[] chunk = chunks.get(c);
+            int count = Math.min(chunk.length, size - base);
+            System.arraycopy(chunk, 0, array, base, count);
+            base += count;
+        }
+        return (T[]) array;
+    }
+
+    /**
+     * @return an iterator over the elements published when the iterator was created, in proper sequence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final int end = committed.get();
+            private int currentIdx;  // Index of the current element in the iteration.
+            private int chunkIdx;
+            private int offset;
+            private Object[] chunk = chunks.get(0);
+
+            @Override
+            public boolean hasNext() {
+                return currentIdx < end;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the iteration.");
+                }
+                if (offset == chunk.length) {
+                    chunk = chunks.get(++chunkIdx);
+                    offset = 0;
+                }
+                currentIdx++;
+                return (T) chunk[offset++];
+            }
+        };
+    }
+
+    /**
+     * Returns a read-only list iterator working through the index-based methods of the list.
+     * Appends never move the elements the iterator has seen, so there is no modification to detect,
+     * and the changes through the iterator throw UnsupportedOperationException.
+     *
+     * @return a list iterator over the elements in this AppendOnlyList in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new IndexListIterator<>(this, () -> 0);
+    }
+
+    /**
+     * Returns a string representation of the AppendOnlyList.
+     *
+     * @return a string representation of the AppendOnlyList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
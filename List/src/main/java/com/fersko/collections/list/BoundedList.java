@@ -0,0 +1,636 @@
+package com.fersko.collections.list;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe implementation of the MyList interface with a fixed capacity, for paths that must not
+ * pause on a resize.
+ *
+ * <p>The array is allocated once by the constructor and never grows; the elements form a run in it
+ * that may wrap around its end, so adding at the end and removing the first element run in O(1),
+ * and insertions and removals in the middle shift the shorter side. Adding to a full list applies
+ * the {@link OverflowPolicy} of the list: reject the element, overwrite the oldest one, or wait for
+ * room at most for a timeout. {@link #highWaterMark()}, {@link #overflowCount()} and
+ * {@link #remainingCapacity()} report how much of the capacity is used, so buffers can be sized once.
+ *
+ * <p>Every method holds a single ReentrantLock. Adding, getting and removing allocate nothing;
+ * sort allocates the merge buffer of the sort, and the iterators work on a snapshot of the list.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class BoundedList<T> implements MyList<T> {
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    private static final String FULL_ERROR = "List is full!";
+
+    private final Object[] data;
+
+    private final OverflowPolicy policy;
+
+    private final long timeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Slot of the first element.
+     */
+    private int head;
+
+    private int size;
+
+    private int highWaterMark;
+
+    private long overflowCount;
+
+    /**
+     * Constructs an empty BoundedList with the specified capacity and overflow policy.
+     * With {@link OverflowPolicy#BLOCK} adding to a full list waits without a timeout.
+     *
+     * @param capacity the maximum number of elements in the list.
+     * @param policy   what to do with an element added while the list is full.
+     * @throws IllegalArgumentException if the specified capacity is non-positive.
+     */
+    public BoundedList(int capacity, OverflowPolicy policy) {
+        this(capacity, policy, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Constructs an empty BoundedList with the specified capacity and overflow policy.
+     *
+     * @param capacity the maximum number of elements in the list.
+     * @param policy   what to do with an element added while the list is full.
+     * @param timeout  how long adding to a full list waits for room with {@link OverflowPolicy#BLOCK}.
+     * @param unit     the unit of the timeout.
+     * @throws IllegalArgumentException if the specified capacity is non-positive or the timeout is negative.
+     */
+    public BoundedList(int capacity, OverflowPolicy policy, long timeout, TimeUnit unit) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Error size capacity");
+        }
+        if (timeout < 0) {
+            throw new IllegalArgumentException("Error timeout");
+        }
+        data = new Object[capacity];
+        this.policy = Objects.requireNonNull(policy);
+        timeoutNanos = unit.toNanos(timeout);
+    }
+
+    /**
+     * @return the slot of the element with the specified index.
+     */
+    private int slot(int idx) {
+        int s = head + idx;
+        return s < data.length ? s : s - data.length;
+    }
+
+    /**
+     * Copies the element at index from to index to, both given as indexes of the list.
+     */
+    private void move(int from, int to) {
+        data[slot(to)] = data[slot(from)];
+    }
+
+    /**
+     * Makes room for one element in the full list according to the overflow policy.
+     * Must be called under the lock.
+     *
+     * @return true if the list has room now, false if the element is rejected.
+     */
+    private boolean makeRoom() {
+        if (policy == OverflowPolicy.OVERWRITE_OLDEST) {
+            overflowCount++;
+            removeRangeInternal(0, 1);
+            return true;
+        }
+        if (policy == OverflowPolicy.BLOCK) {
+            long nanos = timeoutNanos;
+            try {
+                while (size == data.length && nanos > 0) {
+                    nanos = notFull.awaitNanos(nanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (size < data.length) {
+                return true;
+            }
+        }
+        overflowCount++;
+        return false;
+    }
+
+    /**
+     * Inserts the element at the specified index of the list, which has room for it.
+     * Must be called under the lock.
+     */
+    private void insert(int idx, T elm) {
+        if (idx < size - idx) {
+            head = head == 0 ? data.length - 1 : head - 1;
+            for (int i = 0; i < idx; i++) {
+                move(i + 1, i);
+            }
+        } else {
+            for (int i = size; i > idx; i--) {
+                move(i - 1, i);
+            }
+        }
+        data[slot(idx)] = elm;
+        size++;
+        if (size > highWaterMark) {
+            highWaterMark = size;
+        }
+    }
+
+    /**
+     * Removes the elements in range [fromIdx, toIdx), moving the shorter side, and wakes up
+     * the callers waiting for room. Must be called under the lock.
+     */
+    private void removeRangeInternal(int fromIdx, int toIdx) {
+        int count = toIdx - fromIdx;
+        if (fromIdx < size - toIdx) {
+            for (int i = fromIdx - 1; i >= 0; i--) {
+                move(i, i + count);
+            }
+            for (int i = 0; i < count; i++) {
+                data[slot(i)] = null;
+            }
+            head = slot(count);
+        } else {
+            for (int i = toIdx; i < size; i++) {
+                move(i, i - count);
+            }
+            for (int i = size - count; i < size; i++) {
+                data[slot(i)] = null;
+            }
+        }
+        size -= count;
+        notFull.signalAll();
+    }
+
+    /**
+     * Reverses the slots in range [from, to) of the array.
+     */
+    private void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            Object tmp = data[i];
+            data[i] = data[j];
+            data[j] = tmp;
+        }
+    }
+
+    /**
+     * Appends the specified element, applying the overflow policy if the list is full.
+     *
+     * @param elm the element to be appended.
+     * @return true if the element was added, false if it was rejected.
+     */
+    public boolean offer(T elm) {
+        lock.lock();
+        try {
+            if (size == data.length && !makeRoom()) {
+                return false;
+            }
+            insert(size, elm);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified index, applying the overflow policy if the list is full.
+     * When the oldest element is overwritten to make room, the element is inserted one index lower.
+     *
+     * @param idx the index at which the specified element is to be inserted.
+     * @param elm the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     * @throws IllegalStateException     if the list is full and the element is rejected.
+     */
+    @Override
+    public void add(int idx, T elm) {
+        lock.lock();
+        try {
+            if (idx < 0 || idx > size) {
+                throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+            }
+            if (size == data.length) {
+                if (!makeRoom()) {
+                    throw new IllegalStateException(FULL_ERROR);
+                }
+                if (policy == OverflowPolicy.OVERWRITE_OLDEST) {
+                    idx = Math.max(idx - 1, 0);
+                } else if (idx > size) {
+                    throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+                }
+            }
+            insert(idx, elm);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the specified element, applying the overflow policy if the list is full.
+     *
+     * @param elm the element to be appended to the list.
+     * @throws IllegalStateException if the list is full and the element is rejected.
+     */
+    @Override
+    public void add(T elm) {
+        if (!offer(elm)) {
+            throw new IllegalStateException(FULL_ERROR);
+        }
+    }
+
+    /**
+     * Returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int idx) {
+        lock.lock();
+        try {
+            if (idx < 0 || idx >= size) {
+                throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+            }
+            return (T) data[slot(idx)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the element at the specified index in the list.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int idx, T elm) {
+        lock.lock();
+        try {
+            if (idx < 0 || idx >= size) {
+                throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+            }
+            int s = slot(idx);
+            T old = (T) data[s];
+            data[s] = elm;
+            return old;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty.
+     */
+    @Override
+    public void clean() {
+        lock.lock();
+        try {
+            removeRangeInternal(0, size);
+            head = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first, oldest element of the list in O(1).
+     *
+     * @return the first element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T removeFirst() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException("List is empty!");
+            }
+            T elm = (T) data[head];
+            removeRangeInternal(0, 1);
+            return elm;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the specified index in the list.
+     *
+     * @param idx the index of the element to be removed.
+     * @return the element that was removed from the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int idx) {
+        lock.lock();
+        try {
+            if (idx < 0 || idx >= size) {
+                throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+            }
+            T removedElement = (T) data[slot(idx)];
+            removeRangeInternal(idx, idx + 1);
+            return removedElement;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list, if it is present.
+     *
+     * @param elm the element to be removed from the list, if present.
+     * @return true if the list contained the specified element.
+     */
+    @Override
+    public boolean remove(T elm) {
+        lock.lock();
+        try {
+            int idx = indexOf(elm);
+            if (idx >= 0) {
+                removeRangeInternal(idx, idx + 1);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all elements with index in range [fromIdx, toIdx), moving the shorter side of the list.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index of the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        lock.lock();
+        try {
+            if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+                throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+            }
+            if (fromIdx < toIdx) {
+                removeRangeInternal(fromIdx, toIdx);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the specified predicate,
+     * compacting the remaining elements in a single pass.
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        lock.lock();
+        try {
+            int end = size;
+            int write = 0;
+            int read = 0;
+            try {
+                for (; read < end; read++) {
+                    Object elm = data[slot(read)];
+                    if (!filter.test((T) elm)) {
+                        data[slot(write++)] = elm;
+                    }
+                }
+            } finally {
+                // Keeps the unvisited tail if the predicate throws.
+                for (; read < end; read++) {
+                    move(read, write++);
+                }
+                if (write != end) {
+                    removeRangeInternal(write, end);
+                }
+            }
+            return write != end;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator. The elements are
+     * rotated in place to start at slot 0 first, then sorted. The sort is stable.
+     *
+     * @param comparator the comparator to determine the order of the list.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        lock.lock();
+        try {
+            if (head != 0) {
+                reverse(0, head);
+                reverse(head, data.length);
+                reverse(0, data.length);
+                head = 0;
+            }
+            TimSort.sort(data, 0, size, comparator);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the maximum number of elements in the list.
+     *
+     * @return the capacity of the list.
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Returns the number of elements that can be added before the overflow policy applies.
+     *
+     * @return the free capacity of the list.
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return data.length - size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the largest size the list has reached since it was constructed.
+     *
+     * @return the peak number of elements in the list.
+     */
+    public int highWaterMark() {
+        lock.lock();
+        try {
+            return highWaterMark;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of times the list was full when an element was added,
+     * counting rejected elements and overwritten oldest elements.
+     *
+     * @return the number of overflows since the list was constructed.
+     */
+    public long overflowCount() {
+        lock.lock();
+        try {
+            return overflowCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the list contains the specified element.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(elm, data[slot(i)])) {
+                    return i;
+                }
+            }
+            return -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        lock.lock();
+        try {
+            for (int i = size - 1; i >= 0; i--) {
+                if (Objects.equals(elm, data[slot(i)])) {
+                    return i;
+                }
+            }
+            return -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an array containing all of the elements in the list in proper sequence.
+     *
+     * @return an array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        lock.lock();
+        try {
+            Object[] array = new Object[size];
+            int headPart = Math.min(size, data.length - head);
+            System.arraycopy(data, head, array, 0, headPart);
+            System.arraycopy(data, 0, array, headPart, size - headPart);
+            return (T[]) array;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a string representation of the BoundedList.
+     *
+     * @return a string representation of the BoundedList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the list taken when the iterator is created.
+     *
+     * @return an iterator over the elements in this BoundedList in proper sequence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Arrays.asList(toArray()).iterator();
+    }
+
+    /**
+     * Returns a read-only list iterator over a snapshot of the list taken when the iterator is created.
+     * Changes through the iterator are not supported: they could not hold the lock across the
+     * iteration, and adding to a full list may evict an element the iterator has not reached.
+     *
+     * @return a list iterator over the elements in this BoundedList in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return Collections.unmodifiableList(Arrays.asList(toArray())).listIterator();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.fersko.collections.list;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases the native memory of direct and mapped buffers without waiting for the GC.
+ * Uses sun.misc.Unsafe#invokeCleaner when the runtime provides it and otherwise
+ * leaves the buffer to be reclaimed by the GC.
+ */
+final class DirectBuffers {
+
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private DirectBuffers() {
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner",
+                    MethodType.methodType(void.class, ByteBuffer.class));
+            return handle.bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Releases the memory of the specified direct buffer. The buffer must not be used afterwards.
+     *
+     * @param buffer the direct buffer to be released.
+     */
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (IllegalArgumentException e) {
+            // Slices and duplicates have no cleaner of their own; the GC releases them.
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to release direct buffer", e);
+        }
+    }
+}
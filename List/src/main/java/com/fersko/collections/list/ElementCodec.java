@@ -0,0 +1,106 @@
+package com.fersko.collections.list;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Encodes elements of a fixed byte width to and from a ByteBuffer.
+ * Used by the lists that keep their elements outside of the Java heap.
+ *
+ * @param <T> the type of elements encoded by the codec.
+ */
+public interface ElementCodec<T> {
+
+	/**
+	 * Returns the number of bytes every encoded element occupies.
+	 *
+	 * @return the encoded element width in bytes.
+	 */
+	int size();
+
+	/**
+	 * Writes the specified element at the specified absolute offset of the buffer.
+	 * The position of the buffer is not changed.
+	 *
+	 * @param buffer the buffer to write to.
+	 * @param offset the absolute offset to write the element at.
+	 * @param elm    the element to be written.
+	 */
+	void write(ByteBuffer buffer, int offset, T elm);
+
+	/**
+	 * Reads the element at the specified absolute offset of the buffer.
+	 * The position of the buffer is not changed.
+	 *
+	 * @param buffer the buffer to read from.
+	 * @param offset the absolute offset to read the element from.
+	 * @return the element that was read.
+	 */
+	T read(ByteBuffer buffer, int offset);
+
+	/**
+	 * @return a codec storing Integer elements as 4 bytes. Null elements are rejected.
+	 */
+	static ElementCodec<Integer> ofInt() {
+		return new ElementCodec<>() {
+			@Override
+			public int size() {
+				return Integer.BYTES;
+			}
+
+			@Override
+			public void write(ByteBuffer buffer, int offset, Integer elm) {
+				buffer.putInt(offset, Objects.requireNonNull(elm));
+			}
+
+			@Override
+			public Integer read(ByteBuffer buffer, int offset) {
+				return buffer.getInt(offset);
+			}
+		};
+	}
+
+	/**
+	 * @return a codec storing Long elements as 8 bytes. Null elements are rejected.
+	 */
+	static ElementCodec<Long> ofLong() {
+		return new ElementCodec<>() {
+			@Override
+			public int size() {
+				return Long.BYTES;
+			}
+
+			@Override
+			public void write(ByteBuffer buffer, int offset, Long elm) {
+				buffer.putLong(offset, Objects.requireNonNull(elm));
+			}
+
+			@Override
+			public Long read(ByteBuffer buffer, int offset) {
+				return buffer.getLong(offset);
+			}
+		};
+	}
+
+	/**
+	 * @return a codec storing Double elements as 8 bytes. Null elements are rejected.
+	 */
+	static ElementCodec<Double> ofDouble() {
+		return new ElementCodec<>() {
+			@Override
+			public int size() {
+				return Double.BYTES;
+			}
+
+			@Override
+			public void write(ByteBuffer buffer, int offset, Double elm) {
+				buffer.putDouble(offset, Objects.requireNonNull(elm));
+			}
+
+			@Override
+			public Double read(ByteBuffer buffer, int offset) {
+				return buffer.getDouble(offset);
+			}
+		};
+	}
+}
@@ -0,0 +1,78 @@
+package com.fersko.collections.list;
+
+/**
+ * Decides how much the backing array of a list grows when it runs out of room.
+ * A larger step means fewer copies, a smaller one means less unused capacity.
+ */
+@FunctionalInterface
+public interface GrowthStrategy {
+
+	/**
+	 * Largest array length that can be allocated on common JVMs.
+	 */
+	int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Returns the new capacity of a full backing array. The list allocates at least
+	 * {@code minCapacity} elements even if the returned value is smaller.
+	 *
+	 * @param oldCapacity the current capacity.
+	 * @param minCapacity the capacity that is needed right now, greater than oldCapacity.
+	 * @return the new capacity.
+	 */
+	int newCapacity(int oldCapacity, int minCapacity);
+
+	/**
+	 * @return a strategy doubling the capacity, the default of MyArrayList.
+	 */
+	static GrowthStrategy ofDoubling() {
+		return ofFactor(2.0);
+	}
+
+	/**
+	 * Returns a strategy multiplying the capacity by the specified factor.
+	 *
+	 * @param factor the growth factor.
+	 * @return the strategy.
+	 * @throws IllegalArgumentException if the factor is not greater than 1.
+	 */
+	static GrowthStrategy ofFactor(double factor) {
+		if (!(factor > 1.0)) {
+			throw new IllegalArgumentException("Error growth factor");
+		}
+		return (oldCapacity, minCapacity) ->
+				(int) Math.min((long) Math.ceil(oldCapacity * factor), MAX_ARRAY_LENGTH);
+	}
+
+	/**
+	 * Returns a strategy adding a fixed number of elements to the capacity.
+	 *
+	 * @param increment the number of elements added on every growth.
+	 * @return the strategy.
+	 * @throws IllegalArgumentException if the increment is non-positive.
+	 */
+	static GrowthStrategy ofIncrement(int increment) {
+		if (increment <= 0) {
+			throw new IllegalArgumentException("Error growth increment");
+		}
+		return (oldCapacity, minCapacity) -> (int) Math.min((long) oldCapacity + increment, MAX_ARRAY_LENGTH);
+	}
+
+	/**
+	 * Returns a strategy multiplying the capacity by the specified factor, but adding
+	 * no more than the specified number of elements at once. Large lists then grow in
+	 * steps of a bounded size instead of allocating a much larger array.
+	 *
+	 * @param factor       the growth factor.
+	 * @param maxIncrement the largest number of elements added on one growth.
+	 * @return the strategy.
+	 * @throws IllegalArgumentException if the factor is not greater than 1 or the increment is non-positive.
+	 */
+	static GrowthStrategy ofCappedFactor(double factor, int maxIncrement) {
+		GrowthStrategy byFactor = ofFactor(factor);
+		GrowthStrategy byIncrement = ofIncrement(maxIncrement);
+		return (oldCapacity, minCapacity) -> Math.min(
+				byFactor.newCapacity(oldCapacity, minCapacity),
+				byIncrement.newCapacity(oldCapacity, minCapacity));
+	}
+}
@@ -0,0 +1,703 @@
+package com.fersko.collections.list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of the MyList interface as a doubly-linked list whose nodes are slots of parallel
+ * arrays instead of objects: the element of a slot is kept in an Object[] and its links to the previous
+ * and the next slot in two int[] arrays. A link of -1 marks the end of the list.
+ *
+ * <p>An element costs one reference and two ints instead of a node object with a header and three
+ * references, and the garbage collector traces three arrays instead of one object per element.
+ * Slots of removed elements are chained into a free list through the next links and reused by
+ * later insertions. Insertion and removal at a node reached by the list iterator run in O(1);
+ * index lookups walk from the nearest of the head, the tail and the slot of the last lookup.
+ * {@link #compact()} lays the slots out again in list order, which also restores locality after churn.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class IndexLinkedList<T> implements MyList<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int NIL = -1;
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    private Object[] data;
+
+    private int[] next;
+
+    private int[] prev;
+
+    private int head = NIL;
+
+    private int tail = NIL;
+
+    private int size;
+
+    /**
+     * First slot of the free list, chained through next.
+     */
+    private int free = NIL;
+
+    /**
+     * Number of slots ever handed out; the slots from here on have never been used.
+     */
+    private int used;
+
+    /**
+     * Slot returned by the last index lookup, or NIL after a change that may have moved it.
+     */
+    private int cursor = NIL;
+    private int cursorIdx;
+
+    /**
+     * Number of structural modifications, checked by the iterators to detect concurrent modification.
+     */
+    private int modCount;
+
+    /**
+     * Constructs an empty IndexLinkedList with room for 16 elements.
+     */
+    public IndexLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty IndexLinkedList with room for the specified number of elements.
+     *
+     * @param sizeCapacity the initial capacity of the list.
+     * @throws IllegalArgumentException if the specified initial capacity is non-positive.
+     */
+    public IndexLinkedList(int sizeCapacity) {
+        if (sizeCapacity <= 0) {
+            throw new IllegalArgumentException("Error size capacity");
+        }
+        data = new Object[sizeCapacity];
+        next = new int[sizeCapacity];
+        prev = new int[sizeCapacity];
+    }
+
+    /**
+     * Returns a free slot holding the specified element, reusing a slot of a removed element if there is one.
+     *
+     * @param elm the element to be stored in the slot.
+     * @return the slot, not linked into the list yet.
+     */
+    private int allocSlot(T elm) {
+        int s = free;
+        if (s != NIL) {
+            free = next[s];
+        } else {
+            if (used == data.length) {
+                if (used == GrowthStrategy.MAX_ARRAY_LENGTH) {
+                    throw new OutOfMemoryError("Required array size too large");
+                }
+                int newCapacity = (int) Math.min((long) used * 2, GrowthStrategy.MAX_ARRAY_LENGTH);
+                data = Arrays.copyOf(data, newCapacity);
+                next = Arrays.copyOf(next, newCapacity);
+                prev = Arrays.copyOf(prev, newCapacity);
+            }
+            s = used++;
+        }
+        data[s] = elm;
+        return s;
+    }
+
+    /**
+     * Returns the slot of the element with the specified index, walking from the nearest
+     * of the head, the tail and the slot of the last lookup, and remembers it as the cursor.
+     *
+     * @param index the index of the element.
+     * @return the slot of the element.
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size).
+     */
+    private int slotAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        int current = head;
+        int currentIdx = 0;
+        if (size - 1 - index < index) {
+            current = tail;
+            currentIdx = size - 1;
+        }
+        if (cursor != NIL && Math.abs(cursorIdx - index) < Math.abs(currentIdx - index)) {
+            current = cursor;
+            currentIdx = cursorIdx;
+        }
+        for (; currentIdx < index; currentIdx++) {
+            current = next[current];
+        }
+        for (; currentIdx > index; currentIdx--) {
+            current = prev[current];
+        }
+        cursor = current;
+        cursorIdx = index;
+        return current;
+    }
+
+    /**
+     * Links a new slot with the specified element before the specified slot, or at the end
+     * of the list if the slot is NIL, and forgets the cursor.
+     *
+     * @param elm  the element to be inserted.
+     * @param succ the slot the new slot is linked before, or NIL.
+     * @return the new slot.
+     */
+    private int linkBefore(T elm, int succ) {
+        int s = allocSlot(elm);
+        int pred = succ == NIL ? tail : prev[succ];
+        next[s] = succ;
+        prev[s] = pred;
+        if (succ == NIL) {
+            tail = s;
+        } else {
+            prev[succ] = s;
+        }
+        if (pred == NIL) {
+            head = s;
+        } else {
+            next[pred] = s;
+        }
+        cursor = NIL;
+        modCount++;
+        size++;
+        return s;
+    }
+
+    /**
+     * Unlinks the specified slot, puts it on the free list and forgets the cursor.
+     *
+     * @param s the slot to be unlinked.
+     */
+    private void unlink(int s) {
+        int pred = prev[s];
+        int succ = next[s];
+        if (pred == NIL) {
+            head = succ;
+        } else {
+            next[pred] = succ;
+        }
+        if (succ == NIL) {
+            tail = pred;
+        } else {
+            prev[succ] = pred;
+        }
+        data[s] = null;
+        next[s] = free;
+        free = s;
+        cursor = NIL;
+        modCount++;
+        size--;
+    }
+
+    /**
+     * Finds the slot of the first occurrence of the specified element.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the slot of the element, or NIL if the list does not contain it.
+     */
+    private int findSlot(Object elm) {
+        for (int s = head; s != NIL; s = next[s]) {
+            if (Objects.equals(elm, data[s])) {
+                return s;
+            }
+        }
+        return NIL;
+    }
+
+    /**
+     * Lays the specified elements out in slots 0 to count - 1 in order, linked one after another,
+     * and clears the free list.
+     *
+     * @param elms  the elements of the list in order.
+     * @param count the number of elements.
+     */
+    private void layOut(Object[] elms, int count) {
+        System.arraycopy(elms, 0, data, 0, count);
+        Arrays.fill(data, count, used, null);
+        for (int i = 0; i < count; i++) {
+            prev[i] = i - 1;
+            next[i] = i + 1;
+        }
+        head = count == 0 ? NIL : 0;
+        tail = count - 1;
+        if (count > 0) {
+            next[tail] = NIL;
+        }
+        used = count;
+        free = NIL;
+        cursor = NIL;
+    }
+
+    /**
+     * Moves the elements to slots 0 to size - 1 in list order, so that walking the list reads the
+     * arrays sequentially again, and drops the free slots.
+     */
+    public void compact() {
+        layOut(toArray(), size);
+        modCount++;
+    }
+
+    /**
+     * Shrinks the arrays to the size of the list, compacting it first.
+     */
+    public void trimToSize() {
+        compact();
+        int newCapacity = Math.max(size, 1);
+        data = Arrays.copyOf(data, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        prev = Arrays.copyOf(prev, newCapacity);
+    }
+
+    /**
+     * Returns the number of slots the list can use without growing its arrays.
+     *
+     * @return the capacity of the list.
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Inserts an element at the specified index in the list.
+     *
+     * @param idx the index at which the specified element is to be inserted.
+     * @param elm the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     */
+    @Override
+    public void add(int idx, T elm) {
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        if (idx == size) {
+            linkBefore(elm, NIL);
+        } else {
+            cursor = linkBefore(elm, slotAt(idx));
+            cursorIdx = idx;
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of the list.
+     *
+     * @param elm the element to be appended to the list.
+     */
+    @Override
+    public void add(T elm) {
+        linkBefore(elm, NIL);
+    }
+
+    /**
+     * Returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int idx) {
+        return (T) data[slotAt(idx)];
+    }
+
+    /**
+     * Replaces the element at the specified index in the list.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int idx, T elm) {
+        int s = slotAt(idx);
+        T old = (T) data[s];
+        data[s] = elm;
+        return old;
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty. The arrays are kept and reused.
+     */
+    @Override
+    public void clean() {
+        Arrays.fill(data, 0, used, null);
+        head = NIL;
+        tail = NIL;
+        free = NIL;
+        cursor = NIL;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index in the list.
+     *
+     * @param idx the index of the element to be removed.
+     * @return the element that was removed from the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int idx) {
+        int s = slotAt(idx);
+        int succ = next[s];
+        T removedElement = (T) data[s];
+        unlink(s);
+        if (succ != NIL) {
+            cursor = succ;
+            cursorIdx = idx;
+        }
+        return removedElement;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list, if it is present.
+     *
+     * @param elm the element to be removed from the list, if present.
+     * @return true if the list contained the specified element.
+     */
+    @Override
+    public boolean remove(T elm) {
+        int s = findSlot(elm);
+        if (s != NIL) {
+            unlink(s);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all elements with index in range [fromIdx, toIdx), unlinking each slot in O(1).
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index of the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        if (fromIdx == toIdx) {
+            return;
+        }
+        int s = slotAt(fromIdx);
+        for (int i = fromIdx; i < toIdx; i++) {
+            int succ = next[s];
+            unlink(s);
+            s = succ;
+        }
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the specified predicate,
+     * unlinking each matching slot in O(1).
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = false;
+        int s = head;
+        while (s != NIL) {
+            int succ = next[s];
+            if (filter.test((T) data[s])) {
+                unlink(s);
+                removed = true;
+            }
+            s = succ;
+        }
+        return removed;
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator. The sort is stable,
+     * and the sorted elements are laid out in list order like after {@link #compact()}.
+     *
+     * @param comparator the comparator to determine the order of the elements.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        Object[] elms = toArray();
+        TimSort.sort(elms, 0, size, comparator);
+        layOut(elms, size);
+        modCount++;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list contains the specified element.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return findSlot(elm) != NIL;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        int idx = 0;
+        for (int s = head; s != NIL; s = next[s], idx++) {
+            if (Objects.equals(elm, data[s])) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        int idx = size - 1;
+        for (int s = tail; s != NIL; s = prev[s], idx--) {
+            if (Objects.equals(elm, data[s])) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing all of the elements in the list in proper sequence.
+     *
+     * @return an array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        Object[] array = new Object[size];
+        int i = 0;
+        for (int s = head; s != NIL; s = next[s]) {
+            array[i++] = data[s];
+        }
+        return (T[]) array;
+    }
+
+    /**
+     * Compares this IndexLinkedList with the specified object for equality.
+     *
+     * @param o the object to be compared for equality with this IndexLinkedList.
+     * @return true if the specified object is an IndexLinkedList with equal elements in the same order.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!( o instanceof IndexLinkedList ))
+            return false;
+        IndexLinkedList<?> that = (IndexLinkedList<?>) o;
+        return Arrays.equals(toArray(), that.toArray());
+    }
+
+    /**
+     * Returns a hash code value for this IndexLinkedList.
+     *
+     * @return a hash code value for this IndexLinkedList.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int s = head; s != NIL; s = next[s]) {
+            result = 31 * result + Objects.hashCode(data[s]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a string representation of the IndexLinkedList.
+     *
+     * @return a string representation of the IndexLinkedList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * @return an iterator over the elements in this IndexLinkedList in proper sequence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int current = head;  // Slot of the next element in the iteration.
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return current != NIL;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the iteration.");
+                }
+                T elm = (T) data[current];
+                current = next[current];
+                return elm;
+            }
+        };
+    }
+
+    /**
+     * Returns a list iterator over the elements in this IndexLinkedList, starting at the beginning.
+     * Removals and insertions through the iterator relink slots in O(1).
+     *
+     * @return a list iterator over the elements in this IndexLinkedList in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new ListItr();
+    }
+
+    /**
+     * List iterator relinking the slots at its position.
+     */
+    private class ListItr implements ListIterator<T> {
+        private int nextSlot = head;  // Slot of the element returned by next(), or NIL at the end.
+        private int lastReturned = NIL;  // Slot of the element returned last, or NIL if there is none.
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the iteration.");
+            }
+            lastReturned = nextSlot;
+            nextSlot = next[nextSlot];
+            nextIndex++;
+            return (T) data[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("No more elements in the iteration.");
+            }
+            nextSlot = nextSlot == NIL ? tail : prev[nextSlot];
+            lastReturned = nextSlot;
+            nextIndex--;
+            return (T) data[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        /**
+         * Unlinks the slot returned last in O(1).
+         *
+         * @throws IllegalStateException           if next or previous has not been called since the last remove or add.
+         * @throws ConcurrentModificationException if the list was structurally modified.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            int lastNext = next[lastReturned];
+            unlink(lastReturned);
+            if (nextSlot == lastReturned) {
+                nextSlot = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T elm) {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            data[lastReturned] = elm;
+        }
+
+        /**
+         * Links a new slot before the cursor in O(1).
+         *
+         * @throws ConcurrentModificationException if the list was structurally modified.
+         */
+        @Override
+        public void add(T elm) {
+            checkForComodification();
+            lastReturned = NIL;
+            linkBefore(elm, nextSlot);
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.fersko.collections.list;
+
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntSupplier;
+
+/**
+ * List iterator working through the index-based methods of a MyList.
+ * Replacing an element goes through {@link MyList#set(int, Object)}, so it is as atomic as the list makes it.
+ * Structural changes made past the iterator, detected through the modification count of the list,
+ * are reported as concurrent modification.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+final class IndexListIterator<T> implements ListIterator<T> {
+
+    private final MyList<T> list;
+
+    private int cursor;  // Index of the element returned by the next call to next().
+
+    private int lastRet = -1;  // Index of the element returned last, or -1 if there is none.
+
+    private final IntSupplier modCount;
+
+    private int expectedModCount;
+
+    /**
+     * Constructs a list iterator over the specified list, starting at the beginning.
+     *
+     * @param list     the list to be iterated.
+     * @param modCount the number of structural modifications of the list so far.
+     */
+    IndexListIterator(MyList<T> list, IntSupplier modCount) {
+        this.list = list;
+        this.modCount = modCount;
+        this.expectedModCount = modCount.getAsInt();
+    }
+
+    private void checkForComodification() {
+        if (modCount.getAsInt() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < list.size();
+    }
+
+    @Override
+    public T next() {
+        checkForComodification();
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more elements in the iteration.");
+        }
+        lastRet = cursor++;
+        return list.get(lastRet);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return cursor > 0;
+    }
+
+    @Override
+    public T previous() {
+        checkForComodification();
+        if (!hasPrevious()) {
+            throw new NoSuchElementException("No more elements in the iteration.");
+        }
+        lastRet = --cursor;
+        return list.get(lastRet);
+    }
+
+    @Override
+    public int nextIndex() {
+        return cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+        return cursor - 1;
+    }
+
+    @Override
+    public void remove() {
+        if (lastRet < 0) {
+            throw new IllegalStateException();
+        }
+        checkForComodification();
+        list.remove(lastRet);
+        if (lastRet < cursor) {
+            cursor--;
+        }
+        expectedModCount = modCount.getAsInt();
+        lastRet = -1;
+    }
+
+    @Override
+    public void set(T elm) {
+        if (lastRet < 0) {
+            throw new IllegalStateException();
+        }
+        checkForComodification();
+        list.set(lastRet, elm);
+        expectedModCount = modCount.getAsInt();
+    }
+
+    @Override
+    public void add(T elm) {
+        checkForComodification();
+        list.add(cursor++, elm);
+        expectedModCount = modCount.getAsInt();
+        lastRet = -1;
+    }
+}
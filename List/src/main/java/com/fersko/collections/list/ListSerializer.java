@@ -0,0 +1,187 @@
+package com.fersko.collections.list;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes and reads MyList snapshots in a compact binary format through NIO channels.
+ * Elements are encoded by an {@link ElementCodec} and streamed through a single buffer
+ * of a fixed size, so the encoded form of a list is never buffered whole; writing takes
+ * one {@link MyList#toArray()} snapshot of the elements themselves.
+ *
+ * <p>Format: a {@value #HEADER_SIZE}-byte header (magic, format version, element width,
+ * element count) followed by the encoded elements in big-endian order.
+ *
+ * @param <T> the type of elements stored in the serialized lists.
+ */
+public class ListSerializer<T> {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private static final int MAGIC = 0x4D4C534E;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 20;
+
+    private final ElementCodec<T> codec;
+
+    private final int elementSize;
+
+    private final int bufferSize;
+
+    /**
+     * Constructs a serializer with a 64 KB streaming buffer.
+     *
+     * @param codec the codec encoding the elements.
+     */
+    public ListSerializer(ElementCodec<T> codec) {
+        this(codec, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a serializer with the specified streaming buffer size.
+     *
+     * @param codec      the codec encoding the elements.
+     * @param bufferSize the size of the streaming buffer in bytes.
+     * @throws IllegalArgumentException if the buffer cannot hold the header.
+     */
+    public ListSerializer(ElementCodec<T> codec, int bufferSize) {
+        int alignedSize = bufferSize - bufferSize % codec.size();
+        if (alignedSize < HEADER_SIZE) {
+            throw new IllegalArgumentException("Error buffer size");
+        }
+        this.codec = codec;
+        this.elementSize = codec.size();
+        this.bufferSize = alignedSize;
+    }
+
+    /**
+     * Writes a snapshot of the specified list to the channel. The elements are copied once with
+     * {@link MyList#toArray()} and checked before anything is written. The element count comes
+     * from that copy, so the header always matches the elements that follow it, even if a
+     * concurrent list grows or shrinks meanwhile.
+     *
+     * @param list    the list to be written.
+     * @param channel the channel to write to.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if the list contains a null element.
+     */
+    @SuppressWarnings("unchecked")
+    public void write(MyList<? extends T> list, WritableByteChannel channel) throws IOException {
+        Object[] elms = list.toArray();
+        int count = elms.length;
+        for (int i = 0; i < count; i++) {
+            if (elms[i] == null) {
+                throw new IllegalArgumentException("Error null element");
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        try {
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(elementSize)
+                    .putLong(count);
+            writeFully(buffer, channel);
+
+            int offset = 0;
+            for (int i = 0; i < count; i++) {
+                if (offset == bufferSize) {
+                    buffer.position(offset);
+                    writeFully(buffer, channel);
+                    offset = 0;
+                }
+                codec.write(buffer, offset, (T) elms[i]);
+                offset += elementSize;
+            }
+            buffer.position(offset);
+            writeFully(buffer, channel);
+        } finally {
+            DirectBuffers.free(buffer);
+        }
+    }
+
+    /**
+     * Reads a snapshot from the channel and appends its elements to the specified list.
+     *
+     * @param channel the channel to read from.
+     * @param target  the list the elements are appended to.
+     * @param <L>     the type of the target list.
+     * @return the target list.
+     * @throws IOException             if an I/O error occurs.
+     * @throws EOFException            if the channel ends before the whole snapshot is read.
+     * @throws StreamCorruptedException if the channel does not hold a snapshot of elements of the codec width.
+     */
+    public <L extends MyList<T>> L read(ReadableByteChannel channel, L target) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        try {
+            return read(channel, target, buffer);
+        } finally {
+            DirectBuffers.free(buffer);
+        }
+    }
+
+    /**
+     * Reads a snapshot from the channel through the specified buffer.
+     */
+    @SuppressWarnings("unchecked")
+    private <L extends MyList<T>> L read(ReadableByteChannel channel, L target, ByteBuffer buffer) throws IOException {
+        buffer.limit(HEADER_SIZE);
+        readFully(buffer, channel);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new StreamCorruptedException("Error snapshot format");
+        }
+        if (buffer.getInt(8) != elementSize) {
+            throw new StreamCorruptedException("Error element size");
+        }
+        long count = buffer.getLong(12);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Error element count");
+        }
+
+        int perBuffer = bufferSize / elementSize;
+        T[] batch = (T[]) new Object[(int) Math.min(count, perBuffer)];
+        long remaining = count;
+        while (remaining > 0) {
+            int n = (int) Math.min(remaining, perBuffer);
+            buffer.clear().limit(n * elementSize);
+            readFully(buffer, channel);
+            if (n != batch.length) {
+                batch = (T[]) new Object[n];
+            }
+            for (int i = 0; i < n; i++) {
+                batch[i] = codec.read(buffer, i * elementSize);
+            }
+            target.addAll(batch);
+            remaining -= n;
+        }
+        return target;
+    }
+
+    /**
+     * Writes the buffer from 0 up to its position and clears it.
+     */
+    private static void writeFully(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Fills the buffer from its position up to its limit.
+     */
+    private static void readFully(ByteBuffer buffer, ReadableByteChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of snapshot");
+            }
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.fersko.collections.list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * List of primitive long values backed by a long[] array.
+ * Mirrors the MyList surface without boxing the stored values.
+ * The array is dynamically resized when needed to accommodate elements.
+ */
+public class LongList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    private long[] data;
+
+    private int size;
+
+    /**
+     * Constructs an empty LongList with an initial capacity of 10.
+     */
+    public LongList() {
+        data = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Constructs an empty LongList with the specified initial capacity.
+     *
+     * @param sizeCapacity the initial capacity of the list.
+     * @throws IllegalArgumentException if the specified initial capacity is non-positive.
+     */
+    public LongList(int sizeCapacity) {
+        if (sizeCapacity <= 0) {
+            throw new IllegalArgumentException("Error size capacity");
+        }
+        data = new long[sizeCapacity];
+    }
+
+    /**
+     * Grows the internal array, if needed, so that it can hold at least the specified number of elements.
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, minCapacity));
+        }
+    }
+
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+    }
+
+    /**
+     * Inserts a value at the specified index in the list.
+     *
+     * @param idx the index at which the specified value is to be inserted.
+     * @param elm the value to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     */
+    public void add(int idx, long elm) {
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        ensureCapacityInternal(size + 1);
+        System.arraycopy(data, idx, data, idx + 1, size - idx);
+        data[idx] = elm;
+        size++;
+    }
+
+    /**
+     * Appends the specified value to the end of the list.
+     *
+     * @param elm the value to be appended to the list.
+     */
+    public void add(long elm) {
+        if (size == data.length) {
+            ensureCapacityInternal(size + 1);
+        }
+        data[size++] = elm;
+    }
+
+    /**
+     * Appends all values of the specified array to the end of the list, growing the capacity once.
+     *
+     * @param elms the values to be appended to the list.
+     */
+    public void addAll(long... elms) {
+        ensureCapacityInternal(size + elms.length);
+        System.arraycopy(elms, 0, data, size, elms.length);
+        size += elms.length;
+    }
+
+    /**
+     * Returns the value at the specified index in the list.
+     *
+     * @param idx the index of the value to return.
+     * @return the value at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    public long get(int idx) {
+        checkIndex(idx);
+        return data[idx];
+    }
+
+    /**
+     * Replaces the value at the specified index in the list.
+     *
+     * @param idx the index of the value to replace.
+     * @param elm the value to be stored at the specified index.
+     * @return the value previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    public long set(int idx, long elm) {
+        checkIndex(idx);
+        long old = data[idx];
+        data[idx] = elm;
+        return old;
+    }
+
+    /**
+     * Removes all values from the list, leaving it empty. The backing array is kept.
+     */
+    public void clean() {
+        size = 0;
+    }
+
+    /**
+     * Removes the value at the specified index in the list.
+     *
+     * @param idx the index of the value to be removed.
+     * @return the value that was removed from the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    public long remove(int idx) {
+        checkIndex(idx);
+        long removed = data[idx];
+        System.arraycopy(data, idx + 1, data, idx, size - idx - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from the list, if it is present.
+     *
+     * @param elm the value to be removed from the list, if present.
+     * @return true if the list contained the specified value.
+     */
+    public boolean removeValue(long elm) {
+        int idx = indexOf(elm);
+        if (idx >= 0) {
+            remove(idx);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sorts the values of the list into ascending numerical order.
+     */
+    public void sort() {
+        Arrays.sort(data, 0, size);
+    }
+
+    /**
+     * Returns the number of values in the list.
+     *
+     * @return the number of values in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list contains the specified value.
+     *
+     * @param elm the value to be checked for presence in the list.
+     * @return true if the list contains the specified value.
+     */
+    public boolean contains(long elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in the list.
+     *
+     * @param elm the value to search for.
+     * @return the index of the first occurrence of the value, or -1 if the list does not contain it.
+     */
+    public int indexOf(long elm) {
+        long[] es = data;
+        for (int i = 0; i < size; i++) {
+            if (es[i] == elm) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value in the list.
+     *
+     * @param elm the value to search for.
+     * @return the index of the last occurrence of the value, or -1 if the list does not contain it.
+     */
+    public int lastIndexOf(long elm) {
+        long[] es = data;
+        for (int i = size - 1; i >= 0; i--) {
+            if (es[i] == elm) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing all of the values in the list in proper sequence.
+     *
+     * @return a new array containing all of the values in the list.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * @return an iterator over the values in this LongList in proper sequence.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int currentIdx;  // Index of the current value in the iteration.
+
+            @Override
+            public boolean hasNext() {
+                return currentIdx < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the iteration.");
+                }
+                return data[currentIdx++];
+            }
+        };
+    }
+
+    /**
+     * Compares this LongList with the specified object for equality.
+     *
+     * @param o the object to be compared for equality with this LongList.
+     * @return true if the specified object is an LongList holding the same values in the same order.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!( o instanceof LongList ))
+            return false;
+        LongList that = (LongList) o;
+        return Arrays.equals(data, 0, size, that.data, 0, that.size);
+    }
+
+    /**
+     * Returns a hash code value for this LongList.
+     *
+     * @return a hash code value for this LongList.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(data[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a string representation of the LongList.
+     *
+     * @return a string representation of the LongList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
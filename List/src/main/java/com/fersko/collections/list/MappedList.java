@@ -0,0 +1,157 @@
+package com.fersko.collections.list;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Implementation of the MyList interface persisted in a memory-mapped file.
+ * Elements are encoded by an {@link ElementCodec} and mapped into memory in segments
+ * of a fixed number of elements; appending past the last segment extends the file by
+ * one more segment. Reopening the file restores the list by mapping it again, without
+ * reading or decoding the elements. Null elements cannot be stored.
+ *
+ * <p>File layout: a {@value #HEADER_SIZE}-byte header (magic, format version, element
+ * width, size) followed by the encoded elements in big-endian order.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class MappedList<T> extends AbstractByteChunkList<T> {
+
+    private static final int DEFAULT_SEGMENT_CAPACITY = 1 << 16;
+
+    private static final int MAGIC = 0x4D4C5354;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+
+    private static final int MAGIC_OFFSET = 0;
+
+    private static final int VERSION_OFFSET = 4;
+
+    private static final int ELEMENT_SIZE_OFFSET = 8;
+
+    private static final int SIZE_OFFSET = 16;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer header;
+
+    /**
+     * Opens the list stored in the specified file, creating an empty one if the file does not exist,
+     * with segments of 65536 elements.
+     *
+     * @param path  the file holding the list.
+     * @param codec the codec encoding the elements.
+     * @throws IOException              if the file cannot be opened or mapped.
+     * @throws IllegalArgumentException if the file does not hold a list of elements of the codec width.
+     */
+    public MappedList(Path path, ElementCodec<T> codec) throws IOException {
+        this(path, codec, DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * Opens the list stored in the specified file, creating an empty one if the file does not exist.
+     *
+     * @param path            the file holding the list.
+     * @param codec           the codec encoding the elements.
+     * @param segmentCapacity the number of elements per mapped segment, a power of two.
+     * @throws IOException              if the file cannot be opened or mapped.
+     * @throws IllegalArgumentException if the segment capacity is not a positive power of two,
+     *                                  or the file does not hold a list of elements of the codec width.
+     */
+    public MappedList(Path path, ElementCodec<T> codec, int segmentCapacity) throws IOException {
+        super(codec, segmentCapacity);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean created = channel.size() == 0;
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (created) {
+                header.putInt(MAGIC_OFFSET, MAGIC);
+                header.putInt(VERSION_OFFSET, VERSION);
+                header.putInt(ELEMENT_SIZE_OFFSET, elementSize);
+                header.putLong(SIZE_OFFSET, 0);
+            } else {
+                if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+                    throw new IllegalArgumentException("Error list file format");
+                }
+                if (header.getInt(ELEMENT_SIZE_OFFSET) != elementSize) {
+                    throw new IllegalArgumentException("Error element size");
+                }
+                restore((int) header.getLong(SIZE_OFFSET));
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    ByteBuffer allocateChunk(int chunkIdx, int chunkBytes) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_SIZE + (long) chunkIdx * chunkBytes, chunkBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    void releaseChunk(ByteBuffer chunk) {
+        DirectBuffers.free(chunk);
+    }
+
+    @Override
+    void sizeChanged(int newSize) {
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty, and truncates the file.
+     */
+    @Override
+    public void clean() {
+        super.clean();
+        try {
+            channel.truncate(HEADER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes all changes of the mapped segments and the header to the storage device.
+     */
+    public void flush() {
+        checkOpen();
+        forEachChunk(chunk -> ((MappedByteBuffer) chunk).force());
+        header.force();
+    }
+
+    /**
+     * Flushes the list, unmaps its segments and closes the file.
+     * The list cannot be used afterwards; closing an already closed list has no effect.
+     *
+     * @throws UncheckedIOException if the file cannot be closed.
+     */
+    @Override
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+        flush();
+        super.close();
+        DirectBuffers.free(header);
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
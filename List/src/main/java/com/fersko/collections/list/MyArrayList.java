@@ -2,11 +2,14 @@ package com.fersko.collections.list;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.OptionalInt;
-import java.util.stream.IntStream;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Implementation of the MyList interface using an array-based data structure.
@@ -18,6 +21,8 @@ public class MyArrayList<T> implements MyList<T> {
 
     private static final int DEFAULT_CAPACITY = 10;
 
+    private static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
 
     private Object[] data;
@@ -26,39 +31,185 @@ public class MyArrayList<T> implements MyList<T> {
 
     private int capacity = DEFAULT_CAPACITY;
 
+    private final GrowthStrategy growth;
+
+    /**
+     * Number of structural modifications, checked by the iterators to detect concurrent modification.
+     */
+    private int modCount;
+
+    /**
+     * Gap [gapStart, gapEnd) left in the backing array by removals and insertions through a list
+     * iterator. The elements after the gap are moved back in place by {@link #closeGap()}, so a run
+     * of iterator removals is compacted in a single pass.
+     */
+    private int gapStart;
+
+    private int gapEnd;
+
+    /**
+     * Hash index from the elements to their positions, or null while the index is disabled.
+     */
+    private PositionIndex index;
+
+    /**
+     * Searches for the first occurrence of the specified element in the range [from, to).
+     *
+     * @param elm  the element to search for, may be null.
+     * @param from the index to start the search from, inclusive.
+     * @param to   the index to end the search at, exclusive.
+     * @return the index of the first occurrence of the specified element, or -1 if the element is not found.
+     */
+    private int findElm(Object elm, int from, int to) {
+        Object[] es = data;
+        if (elm == null) {
+            for (int i = from; i < to; i++) {
+                if (es[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                if (elm.equals(es[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
 
     /**
-     * Searches for the first occurrence of the specified element in the list.
+     * Searches for the last occurrence of the specified element in the range [from, to).
      *
-     * @param elm the element to search for.
-     * @return an OptionalInt containing the index of the first occurrence of the specified element,
-     * or an empty OptionalInt if the element is not found.
+     * @param elm  the element to search for, may be null.
+     * @param from the index to end the search at, inclusive.
+     * @param to   the index to start the search from, exclusive.
+     * @return the index of the last occurrence of the specified element, or -1 if the element is not found.
      */
-    private OptionalInt findElm(T elm) {
-        return IntStream.range(0, size)
-                .filter(i -> elm.equals(data[i]))
-                .findFirst();
+    private int findLastElm(Object elm, int from, int to) {
+        Object[] es = data;
+        if (elm == null) {
+            for (int i = to - 1; i >= from; i--) {
+                if (es[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = to - 1; i >= from; i--) {
+                if (elm.equals(es[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
     }
 
+    /**
+     * Returns the index of the first occurrence of the specified element, through the position index if it is enabled.
+     * Stale positions are rebuilt first, unless the element is not in the list at all.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the specified element, or -1 if the element is not found.
+     */
+    private int firstIdx(Object elm) {
+        if (index != null) {
+            if (!index.contains(elm)) {
+                return -1;
+            }
+            index.refresh(Arrays.asList(data).subList(0, size));
+            return index.first(elm);
+        }
+        return findElm(elm, 0, size);
+    }
 
     /**
-     * Constructs an empty MyArrayList with an initial capacity of 10.
+     * Records the elements appended from the specified index on in the position index, if it is enabled.
+     *
+     * @param fromIdx the index of the first appended element.
+     */
+    private void indexAppended(int fromIdx) {
+        if (index != null) {
+            for (int i = fromIdx; i < size; i++) {
+                index.appended(data[i], i);
+            }
+        }
+    }
+
+    /**
+     * Marks the positions in the position index, if it is enabled, stale after a change that moves the elements.
+     */
+    private void invalidateIndex() {
+        if (index != null) {
+            index.invalidate();
+        }
+    }
+
+    /**
+     * Records the specified element inserted before the end of the list in the position index, if it is enabled.
+     *
+     * @param elm the inserted element.
+     */
+    private void indexInserted(Object elm) {
+        if (index != null) {
+            index.inserted(elm);
+        }
+    }
+
+    /**
+     * Forgets the specified element removed before the end of the list in the position index, if it is enabled.
+     *
+     * @param elm the removed element.
+     */
+    private void indexRemoved(Object elm) {
+        if (index != null) {
+            index.removed(elm);
+        }
+    }
+
+    /**
+     * Moves the elements after the gap left by a list iterator back in place.
+     * Every method working on the backing array calls it first.
+     */
+    private void closeGap() {
+        if (gapEnd != gapStart) {
+            System.arraycopy(data, gapEnd, data, gapStart, size - gapStart);
+            Arrays.fill(data, size, size + gapEnd - gapStart, null);
+            gapEnd = gapStart;
+        }
+    }
+
+    /**
+     * Constructs an empty MyArrayList with an initial capacity of 10 that doubles its capacity when full.
      */
     public MyArrayList() {
         data = new Object[capacity];
+        growth = GrowthStrategy.ofDoubling();
     }
 
     /**
-     * Constructs an empty MyArrayList with the specified initial capacity.
+     * Constructs an empty MyArrayList with the specified initial capacity that doubles its capacity when full.
      *
      * @param sizeCapacity the initial capacity of the list.
      * @throws IllegalArgumentException if the specified initial capacity is non-positive.
      */
     public MyArrayList(int sizeCapacity) {
+        this(sizeCapacity, GrowthStrategy.ofDoubling());
+    }
+
+    /**
+     * Constructs an empty MyArrayList with the specified initial capacity and growth strategy.
+     *
+     * @param sizeCapacity the initial capacity of the list.
+     * @param growth       the strategy choosing the new capacity when the list is full.
+     * @throws IllegalArgumentException if the specified initial capacity is non-positive.
+     */
+    public MyArrayList(int sizeCapacity, GrowthStrategy growth) {
         if (sizeCapacity <= 0) {
             throw new IllegalArgumentException("Error size capacity");
         }
         data = new Object[sizeCapacity];
+        capacity = sizeCapacity;
+        this.growth = Objects.requireNonNull(growth);
     }
 
     /**
@@ -74,19 +225,95 @@ public class MyArrayList<T> implements MyList<T> {
         if (!( o instanceof MyArrayList ))
             return false;
         MyArrayList<?> that = (MyArrayList<?>) o;
+        closeGap();
+        that.closeGap();
         return size == that.size
                 && capacity == that.capacity
                 && Arrays.equals(data, that.data);
     }
 
     /**
-     * Resizes the internal array to twice its current size.
+     * Grows the internal array, if needed, so that it can hold at least the specified number of elements.
+     * The new capacity is chosen by the growth strategy; only the elements in use are copied.
+     *
+     * @param minCapacity the desired minimum capacity.
+     * @throws OutOfMemoryError if the required capacity exceeds the largest array length.
      */
-    @SuppressWarnings("unchecked")
-    private void resize() {
-        T[] newData = (T[]) new Object[capacity *= 2];
-        System.arraycopy(data, 0, newData, 0, data.length);
-        data = newData;
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > data.length) {
+            if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_ARRAY_LENGTH) {
+                throw new OutOfMemoryError("Required array size too large");
+            }
+            int newCapacity = Math.max(growth.newCapacity(data.length, minCapacity), minCapacity);
+            Object[] newData = new Object[newCapacity];
+            System.arraycopy(data, 0, newData, 0, size);
+            data = newData;
+            capacity = newCapacity;
+        }
+    }
+
+    /**
+     * Grows the capacity of the list, if needed, so that it can hold at least the specified
+     * number of elements without further growth.
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        closeGap();
+        ensureCapacityInternal(minCapacity);
+    }
+
+    /**
+     * Shrinks the capacity of the list to its current size, giving the unused memory back.
+     */
+    public void trimToSize() {
+        closeGap();
+        if (size < data.length) {
+            data = Arrays.copyOf(data, size);
+            capacity = size;
+        }
+    }
+
+    /**
+     * Returns the number of elements the list can hold without growing.
+     *
+     * @return the capacity of the list.
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Enables a hash index from the elements to their counts and positions, so that contains, indexOf
+     * and lastIndexOf find elements in O(1) instead of scanning the list.
+     * The counts follow every change, so contains is always O(1). The positions follow appends and
+     * removals of the last element; after any other change the next indexOf or lastIndexOf rebuilds
+     * them in O(n). remove(T) uses the positions only while they are fresh: it returns at once for an
+     * absent element, but after an insertion or removal before the end it scans the list, and since
+     * removing a non-last element makes them stale, repeated remove(T) calls mostly scan.
+     * A list without the index pays nothing for it.
+     */
+    public void enableIndex() {
+        if (index == null) {
+            closeGap();
+            index = new PositionIndex(Arrays.asList(data).subList(0, size));
+        }
+    }
+
+    /**
+     * Disables the position index and releases its memory.
+     */
+    public void disableIndex() {
+        index = null;
+    }
+
+    /**
+     * Checks if the position index is enabled.
+     *
+     * @return true if lookups go through the position index.
+     */
+    public boolean isIndexed() {
+        return index != null;
     }
 
     /**
@@ -95,10 +322,40 @@ public class MyArrayList<T> implements MyList<T> {
      * @param idxToRemove the index of the element to be removed.
      */
     private void delElm(int idxToRemove) {
-        IntStream.range(idxToRemove, size - 1)
-                .forEach(i -> data[i] = data[i + 1]);
-        data[size - 1] = null;
-        size--;
+        modCount++;
+        if (index != null) {
+            if (idxToRemove == size - 1) {
+                index.removedLast(data[idxToRemove]);
+            } else {
+                index.removed(data[idxToRemove]);
+            }
+        }
+        System.arraycopy(data, idxToRemove + 1, data, idxToRemove, size - idxToRemove - 1);
+        data[--size] = null;
+    }
+
+    /**
+     * Removes the elements in range [fromIdx, toIdx) and shifts the tail once.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index of the last element to be removed, exclusive.
+     */
+    private void shiftTailTo(int fromIdx, int toIdx) {
+        modCount++;
+        if (index != null) {
+            boolean tail = toIdx == size;
+            for (int i = toIdx - 1; i >= fromIdx; i--) {
+                if (tail) {
+                    index.removedLast(data[i]);
+                } else {
+                    index.removed(data[i]);
+                }
+            }
+        }
+        System.arraycopy(data, toIdx, data, fromIdx, size - toIdx);
+        int newSize = size - (toIdx - fromIdx);
+        Arrays.fill(data, newSize, size, null);
+        size = newSize;
     }
 
     /**
@@ -113,14 +370,19 @@ public class MyArrayList<T> implements MyList<T> {
         if (idx < 0 || idx > size) {
             throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
         }
-        if (size == data.length) {
-            resize();
-        }
+        closeGap();
+        modCount++;
+        ensureCapacityInternal(size + 1);
         if (size - idx >= 0) {
             System.arraycopy(data, idx, data, idx + 1, size - idx);
         }
         data[idx] = elm;
         size++;
+        if (idx == size - 1) {
+            indexAppended(idx);
+        } else {
+            indexInserted(elm);
+        }
     }
 
     /**
@@ -130,10 +392,71 @@ public class MyArrayList<T> implements MyList<T> {
      */
     @Override
     public void add(T elm) {
+        closeGap();
+        modCount++;
         if (size == data.length) {
-            resize();
+            ensureCapacityInternal(size + 1);
         }
         data[size++] = elm;
+        if (index != null) {
+            index.appended(elm, size - 1);
+        }
+    }
+
+    /**
+     * Appends all elements of the specified array to the end of the list, growing the capacity once.
+     *
+     * @param elms the elements to be appended to the list.
+     */
+    @Override
+    public void addAll(T[] elms) {
+        closeGap();
+        modCount++;
+        ensureCapacityInternal(size + elms.length);
+        System.arraycopy(elms, 0, data, size, elms.length);
+        size += elms.length;
+        indexAppended(size - elms.length);
+    }
+
+    /**
+     * Appends all elements of the specified Iterable to the end of the list, in iteration order.
+     *
+     * @param elms the elements to be appended to the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(Iterable<? extends T> elms) {
+        if (elms instanceof MyList) {
+            addAll((MyList<? extends T>) elms);
+        } else {
+            for (T elm : elms) {
+                add(elm);
+            }
+        }
+    }
+
+    /**
+     * Appends all elements of the specified list to the end of this list, growing the capacity once.
+     *
+     * @param elms the list whose elements are to be appended to this list.
+     */
+    @Override
+    public void addAll(MyList<? extends T> elms) {
+        closeGap();
+        modCount++;
+        int count = elms.size();
+        int oldSize = size;
+        ensureCapacityInternal(size + count);
+        if (elms instanceof MyArrayList) {
+            ((MyArrayList<?>) elms).closeGap();
+            System.arraycopy(((MyArrayList<?>) elms).data, 0, data, size, count);
+            size += count;
+        } else {
+            for (T elm : elms) {
+                data[size++] = elm;
+            }
+        }
+        indexAppended(oldSize);
     }
 
     /**
@@ -149,16 +472,52 @@ public class MyArrayList<T> implements MyList<T> {
         if (idx < 0 || idx >= size) {
             throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
         }
+        closeGap();
         return (T) data[idx];
     }
 
     /**
-     * Removes all elements from the list, leaving it empty.
+     * Replaces the element at the specified index in the list.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int idx, T elm) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        closeGap();
+        T old = (T) data[idx];
+        if (index != null) {
+            if (idx == size - 1) {
+                index.removedLast(old);
+                index.appended(elm, idx);
+            } else {
+                index.removed(old);
+                index.inserted(elm);
+            }
+        }
+        data[idx] = elm;
+        return old;
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty. The backing array is kept and reused.
      */
     @Override
     public void clean() {
-        data = new Object[capacity];
+        Arrays.fill(data, 0, size + gapEnd - gapStart, null);
         size = 0;
+        gapStart = 0;
+        gapEnd = 0;
+        modCount++;
+        if (index != null) {
+            index.clear();
+        }
     }
 
     /**
@@ -174,7 +533,7 @@ public class MyArrayList<T> implements MyList<T> {
         if (idx < 0 || idx >= size) {
             throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
         }
-
+        closeGap();
         T removedElement = (T) data[idx];
         delElm(idx);
         return removedElement;
@@ -187,6 +546,7 @@ public class MyArrayList<T> implements MyList<T> {
      */
     @Override
     public String toString() {
+        closeGap();
         return Arrays.toString(data);
     }
 
@@ -197,6 +557,7 @@ public class MyArrayList<T> implements MyList<T> {
      */
     @Override
     public int hashCode() {
+        closeGap();
         int result = Objects.hash(size, capacity);
         result = 31 * result + Arrays.hashCode(data);
         return result;
@@ -210,33 +571,118 @@ public class MyArrayList<T> implements MyList<T> {
      */
     @Override
     public boolean remove(T elm) {
-        OptionalInt idxToRemove = findElm(elm);
-        if (idxToRemove.isPresent()) {
-            delElm(idxToRemove.getAsInt());
+        closeGap();
+        int idxToRemove;
+        if (index == null) {
+            idxToRemove = findElm(elm, 0, size);
+        } else if (!index.contains(elm)) {
+            return false;
+        } else {
+            // Stale positions are not rebuilt here, the removal would make them stale again.
+            idxToRemove = index.isFresh() ? index.first(elm) : findElm(elm, 0, size);
+        }
+        if (idxToRemove >= 0) {
+            delElm(idxToRemove);
             return true;
         }
         return false;
     }
 
     /**
-     * Sorts the elements of the list according to the specified comparator.
+     * Removes all elements with index in range [fromIdx, toIdx), shifting the tail once.
      *
-     * @param comparator the comparator to determine the order of the list.
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index of the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        closeGap();
+        shiftTailTo(fromIdx, toIdx);
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the specified predicate,
+     * compacting the remaining elements in a single pass.
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
      */
     @Override
     @SuppressWarnings("unchecked")
-    public void sort(Comparator<T> comparator) {
-        if (size > 1) {
-            for (int i = 0; i < size - 1; i++) {
-                for (int j = 0; j < size - 1; j++) {
-                    if (comparator.compare((T) data[j], (T) data[j + 1]) > 0) {
-                        T tmp = (T) data[j];
-                        data[j] = data[j + 1];
-                        data[j + 1] = tmp;
-                    }
+    public boolean removeIf(Predicate<? super T> filter) {
+        closeGap();
+        Object[] es = data;
+        int end = size;
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < end; read++) {
+                Object elm = es[read];
+                if (!filter.test((T) elm)) {
+                    es[write++] = elm;
+                } else {
+                    indexRemoved(elm);
                 }
             }
+        } finally {
+            // Keeps the unvisited tail if the predicate throws.
+            if (read < end) {
+                System.arraycopy(es, read, es, write, end - read);
+                write += end - read;
+            }
+            Arrays.fill(es, write, end, null);
+            size = write;
+            if (write != end) {
+                modCount++;
+            }
         }
+        return write != end;
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator.
+     * The sort is stable and runs in place on the backing array.
+     *
+     * @param comparator the comparator to determine the order of the list.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        closeGap();
+        modCount++;
+        invalidateIndex();
+        TimSort.sort(data, 0, size, comparator);
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator,
+     * splitting the work over the common ForkJoinPool. The sort is stable.
+     *
+     * @param comparator the comparator to determine the order of the list.
+     */
+    public void parallelSort(Comparator<T> comparator) {
+        parallelSort(comparator, DEFAULT_PARALLEL_SORT_THRESHOLD);
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator,
+     * splitting the work over the common ForkJoinPool. The sort is stable.
+     *
+     * @param comparator the comparator to determine the order of the list.
+     * @param threshold  the chunk length up to which elements are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is non-positive.
+     */
+    public void parallelSort(Comparator<T> comparator, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Error sequential threshold");
+        }
+        closeGap();
+        modCount++;
+        invalidateIndex();
+        ParallelSort.sort(data, 0, size, threshold, comparator);
     }
 
     /**
@@ -257,18 +703,55 @@ public class MyArrayList<T> implements MyList<T> {
      */
     @Override
     public boolean contains(T elm) {
-        return findElm(elm).isPresent();
+        if (index != null) {
+            return index.contains(elm);
+        }
+        closeGap();
+        return findElm(elm, 0, size) >= 0;
     }
 
     /**
-     * Returns an array containing all of the elements in the list in proper sequence.
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        closeGap();
+        return firstIdx(elm);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        closeGap();
+        if (index != null) {
+            if (!index.contains(elm)) {
+                return -1;
+            }
+            index.refresh(Arrays.asList(data).subList(0, size));
+            return index.last(elm);
+        }
+        return findLastElm(elm, 0, size);
+    }
+
+    /**
+     * Returns a new array containing all of the elements in the list in proper sequence.
+     * Its length is the size of the list, and changing it does not change the list.
      *
      * @return an array containing all of the elements in the list.
      */
     @Override
     @SuppressWarnings("unchecked")
     public T[] toArray() {
-        return (T[]) data;
+        closeGap();
+        return (T[]) Arrays.copyOf(data, size);
     }
 
     /**
@@ -278,6 +761,7 @@ public class MyArrayList<T> implements MyList<T> {
     public Iterator<T> iterator() {
         return new Iterator<>() {
             private int currentIdx;  // Index of the current element in the iteration.
+            private final int expectedModCount = modCount;
 
             /**
              * Returns true if there is a next element in the iteration.
@@ -293,10 +777,14 @@ public class MyArrayList<T> implements MyList<T> {
              * Returns the next element in the iteration and advances the iterator.
              *
              * @return the next element in the iteration.
-             * @throws NoSuchElementException if there is no next element.
+             * @throws NoSuchElementException          if there is no next element.
+             * @throws ConcurrentModificationException if the list was structurally modified.
              */
             @Override
             public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
                 if (!hasNext()) {
                     throw new NoSuchElementException("No more elements in the iteration.");
 		        }
@@ -305,5 +793,259 @@ public class MyArrayList<T> implements MyList<T> {
         };
     }
 
-}
+    /**
+     * Returns a list iterator over the elements in this MyArrayList, starting at the beginning.
+     * Removals and insertions through the iterator run in O(1): they widen or fill a gap that
+     * travels with the iterator, and the gap is closed in one pass once the list is used directly.
+     * A run of iterator removals is therefore compacted in a single pass over the array.
+     *
+     * @return a list iterator over the elements in this MyArrayList in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        closeGap();
+        return new ListItr();
+    }
+
+    /**
+     * List iterator working on the gap of the backing array. While the gap is open it sits
+     * at the cursor of the iterator that made the last structural modification.
+     */
+    private class ListItr implements ListIterator<T> {
+        private int cursor;  // Index of the element returned by the next call to next().
+        private int lastRet = -1;  // Index of the element returned last, or -1 if there is none.
+        private int expectedModCount = modCount;
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * @return the position of the element with the specified index in the backing array.
+         */
+        private int physical(int idx) {
+            return idx < gapStart ? idx : idx + gapEnd - gapStart;
+        }
+
+        /**
+         * Opens a gap at the cursor over all the spare capacity of the backing array.
+         */
+        private void openGap() {
+            if (size == data.length) {
+                ensureCapacityInternal(size + 1);
+            }
+            int gap = data.length - size;
+            System.arraycopy(data, cursor, data, cursor + gap, size - cursor);
+            Arrays.fill(data, cursor, Math.min(cursor + gap, size), null);
+            gapStart = cursor;
+            gapEnd = cursor + gap;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the iteration.");
+            }
+            if (gapEnd != gapStart) {
+                data[gapStart++] = data[gapEnd];
+                data[gapEnd++] = null;
+            }
+            lastRet = cursor++;
+            return (T) data[lastRet];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("No more elements in the iteration.");
+            }
+            lastRet = --cursor;
+            if (gapEnd != gapStart) {
+                data[--gapEnd] = data[--gapStart];
+                data[gapStart] = null;
+                return (T) data[gapEnd];
+            }
+            return (T) data[cursor];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        /**
+         * Removes the element returned last by widening the gap, without shifting the tail.
+         *
+         * @throws IllegalStateException           if next or previous has not been called since the last remove or add.
+         * @throws ConcurrentModificationException if the list was structurally modified.
+         */
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (gapEnd == gapStart) {
+                gapStart = cursor;
+                gapEnd = cursor;
+            }
+            if (lastRet < cursor) {
+                indexRemoved(data[--gapStart]);
+                data[gapStart] = null;
+                cursor--;
+            } else {
+                indexRemoved(data[gapEnd]);
+                data[gapEnd++] = null;
+            }
+            size--;
+            expectedModCount = ++modCount;
+            lastRet = -1;
+        }
+
+        /**
+         * Replaces the element returned last with the specified element.
+         *
+         * @throws IllegalStateException           if next or previous has not been called since the last remove or add.
+         * @throws ConcurrentModificationException if the list was structurally modified.
+         */
+        @Override
+        public void set(T elm) {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            int pos = physical(lastRet);
+            indexRemoved(data[pos]);
+            indexInserted(elm);
+            data[pos] = elm;
+        }
 
+        /**
+         * Inserts the specified element before the cursor by filling the gap.
+         * If there is no gap, one is opened over the spare capacity with a single shift of the tail.
+         *
+         * @throws ConcurrentModificationException if the list was structurally modified.
+         */
+        @Override
+        public void add(T elm) {
+            checkForComodification();
+            if (gapEnd == gapStart) {
+                openGap();
+            }
+            data[gapStart++] = elm;
+            cursor++;
+            size++;
+            expectedModCount = ++modCount;
+            indexInserted(elm);
+            lastRet = -1;
+        }
+    }
+
+    /**
+     * Returns a spliterator over the elements in this MyArrayList that splits the array range
+     * in halves, so parallel streams divide the work evenly. The spliterator binds to the list
+     * on first use and reports its exact size on every split.
+     *
+     * @return a spliterator over the elements in this MyArrayList.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * Spliterator over a range of the backing array.
+     */
+    private final class ArraySpliterator implements Spliterator<T> {
+        private int index;  // Index of the next element to be visited.
+        private int fence;  // Index after the last element to be visited, or -1 until first use.
+        private int expectedModCount;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                closeGap();
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            return lo >= mid ? null : new ArraySpliterator(lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            if (i >= hi) {
+                return false;
+            }
+            index = i + 1;
+            action.accept((T) data[i]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            Object[] es = data;
+            for (int i = index; i < hi; i++) {
+                action.accept((T) es[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+}
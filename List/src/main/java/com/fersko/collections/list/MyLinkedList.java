@@ -2,10 +2,15 @@ package com.fersko.collections.list;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Implementation of the MyList interface using a doubly-linked list.
@@ -21,7 +26,31 @@ public class MyLinkedList<T> implements MyList<T> {
     private int size;
 
     /**
-     * Returns the node at the specified index in the linked list.
+     * Node returned by the last index lookup, or null after a change that may have moved it.
+     */
+    private Node<T> cursor;
+    private int cursorIdx;
+
+    /**
+     * Number of structural modifications, checked by the iterators to detect concurrent modification.
+     */
+    private int modCount;
+
+    /**
+     * Hash index from the elements to their positions, or null while the index is disabled.
+     */
+    private PositionIndex index;
+
+    /**
+     * Detached nodes kept for reuse while node pooling is enabled, chained through next.
+     */
+    private Node<T> pool;
+    private int pooled;
+    private int poolLimit;
+
+    /**
+     * Returns the node at the specified index in the linked list, walking from the nearest
+     * of the head, the tail and the node of the last lookup, and remembers it as the cursor.
      *
      * @param index the index of the node to be retrieved.
      * @return the node at the specified index.
@@ -33,19 +62,95 @@ public class MyLinkedList<T> implements MyList<T> {
         }
 
         Node<T> current = head;
-        for (int i = 0; i < index; i++) {
+        int currentIdx = 0;
+        if (size - 1 - index < index) {
+            current = tail;
+            currentIdx = size - 1;
+        }
+        if (cursor != null && Math.abs(cursorIdx - index) < Math.abs(currentIdx - index)) {
+            current = cursor;
+            currentIdx = cursorIdx;
+        }
+        for (; currentIdx < index; currentIdx++) {
             current = current.next;
         }
+        for (; currentIdx > index; currentIdx--) {
+            current = current.prev;
+        }
 
+        cursor = current;
+        cursorIdx = index;
         return current;
     }
 
     /**
-     * Deletes the specified node from the linked list.
+     * Returns a node with the specified element, taken from the node pool if it has one.
+     *
+     * @param elm the element to be stored in the node.
+     * @return a detached node holding the element.
+     */
+    private Node<T> newNode(T elm) {
+        Node<T> node = pool;
+        if (node == null) {
+            return new Node<>(elm);
+        }
+        pool = node.next;
+        pooled--;
+        node.data = elm;
+        node.next = null;
+        return node;
+    }
+
+    /**
+     * Puts the specified unlinked node into the node pool, unless the pool is disabled or full.
+     *
+     * @param node the node that is no longer part of the list.
+     */
+    private void recycle(Node<T> node) {
+        if (pooled < poolLimit) {
+            node.data = null;
+            node.prev = null;
+            node.next = pool;
+            pool = node;
+            pooled++;
+        }
+    }
+
+    /**
+     * Puts the unlinked chain from first to last into the node pool while it has room.
+     *
+     * @param first the first node of the chain.
+     * @param last  the last node of the chain.
+     */
+    private void recycleChain(Node<T> first, Node<T> last) {
+        Node<T> iter = first;
+        while (pooled < poolLimit) {
+            Node<T> next = iter.next;
+            recycle(iter);
+            if (iter == last) {
+                return;
+            }
+            iter = next;
+        }
+    }
+
+    /**
+     * Deletes the specified node from the linked list and forgets the cursor,
+     * whose index may have shifted. The node goes to the node pool, if it is enabled,
+     * so callers must read it before deleting it.
      *
      * @param node the node to be deleted.
      */
     private void delete(Node<T> node) {
+        cursor = null;
+        modCount++;
+        if (index != null) {
+            if (node == tail) {
+                index.removedLast(node.data);
+            } else {
+                index.removed(node.data);
+            }
+        }
         if (head == node) {
             head = head.next;
             if (head != null) {
@@ -61,21 +166,232 @@ public class MyLinkedList<T> implements MyList<T> {
             node.next.prev = node.prev;
         }
         --size;
+        recycle(node);
+    }
+
+    /**
+     * Splices a chain of detached nodes onto the end of the linked list.
+     *
+     * @param first the first node of the chain, or null if the chain is empty.
+     * @param last  the last node of the chain.
+     * @param count the number of nodes in the chain.
+     */
+    private void linkLast(Node<T> first, Node<T> last, int count) {
+        if (first == null) {
+            return;
+        }
+        if (head == null) {
+            head = first;
+        } else {
+            tail.next = first;
+            first.prev = tail;
+        }
+        if (index != null) {
+            int idx = size;
+            for (Node<T> iter = first; iter != null; iter = iter.next) {
+                index.appended(iter.data, idx++);
+            }
+        }
+        tail = last;
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Links a new node with the specified element before the specified node
+     * and forgets the cursor, whose index may have shifted.
+     *
+     * @param elm  the element to be inserted.
+     * @param succ the node the new node is linked before.
+     * @return the new node.
+     */
+    private Node<T> linkBefore(T elm, Node<T> succ) {
+        Node<T> newNode = newNode(elm);
+        Node<T> pred = succ.prev;
+        newNode.next = succ;
+        newNode.prev = pred;
+        succ.prev = newNode;
+        if (pred == null) {
+            head = newNode;
+        } else {
+            pred.next = newNode;
+        }
+        cursor = null;
+        modCount++;
+        size++;
+        if (index != null) {
+            index.inserted(elm);
+        }
+        return newNode;
+    }
+
+    /**
+     * Marks the positions in the position index, if it is enabled, stale after a change that moves the elements.
+     */
+    private void invalidateIndex() {
+        if (index != null) {
+            index.invalidate();
+        }
+    }
+
+    /**
+     * Enables a hash index from the elements to their counts and positions, so that contains, indexOf
+     * and lastIndexOf find elements in O(1). The counts follow every change, so contains is always O(1).
+     * The positions follow appends and removals of the last element; after any other change the next
+     * indexOf or lastIndexOf rebuilds them in O(n). remove(T) returns at once for an absent element but
+     * otherwise still walks the list to the node, as a position gives no faster way to reach it.
+     * A list without the index pays nothing for it.
+     */
+    public void enableIndex() {
+        if (index == null) {
+            index = new PositionIndex(this);
+        }
+    }
+
+    /**
+     * Disables the position index and releases its memory.
+     */
+    public void disableIndex() {
+        index = null;
+    }
+
+    /**
+     * Checks if the position index is enabled.
+     *
+     * @return true if lookups go through the position index.
+     */
+    public boolean isIndexed() {
+        return index != null;
+    }
+
+    /**
+     * Enables node pooling: nodes of removed elements are kept, up to the specified number,
+     * and reused by later additions, so steady add and remove churn allocates no nodes.
+     *
+     * @param maxPooled the maximum number of nodes kept for reuse.
+     * @throws IllegalArgumentException if the maximum number of pooled nodes is non-positive.
+     */
+    public void enableNodePool(int maxPooled) {
+        if (maxPooled <= 0) {
+            throw new IllegalArgumentException("Error pool size");
+        }
+        poolLimit = maxPooled;
+        while (pooled > poolLimit) {
+            pool = pool.next;
+            pooled--;
+        }
+    }
+
+    /**
+     * Disables node pooling and releases the pooled nodes.
+     */
+    public void disableNodePool() {
+        pool = null;
+        pooled = 0;
+        poolLimit = 0;
+    }
+
+    /**
+     * Returns the number of nodes kept for reuse.
+     *
+     * @return the number of pooled nodes.
+     */
+    public int pooledNodes() {
+        return pooled;
+    }
+
+    /**
+     * Returns the position index, rebuilt first if it is stale.
+     *
+     * @return the up-to-date position index.
+     */
+    private PositionIndex refreshedIndex() {
+        index.refresh(this);
+        return index;
     }
 
     /**
      * Finds the node containing the specified element in the linked list.
      *
-     * @param elm the element to search for.
-     * @return an Optional containing the node with the specified element, or an empty Optional if not found.
+     * @param elm the element to search for, may be null.
+     * @return the first node with the specified element, or null if not found.
+     */
+    private Node<T> findNode(Object elm) {
+        if (elm == null) {
+            for (Node<T> iter = head; iter != null; iter = iter.next) {
+                if (iter.data == null) {
+                    return iter;
+                }
+            }
+        } else {
+            for (Node<T> iter = head; iter != null; iter = iter.next) {
+                if (elm.equals(iter.data)) {
+                    return iter;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sorts the chain starting at the specified node with a bottom-up merge sort,
+     * relinking the nodes in place. Updates the tail of the list.
+     *
+     * @param first      the first node of the chain to be sorted.
+     * @param comparator the comparator to determine the order of the elements.
+     * @return the first node of the sorted chain.
      */
-    private Optional<Node<T>> findNode(T elm) {
-        for (Node<T> iter = head; iter != null; iter = iter.next) {
-            if (iter.data.equals(elm)) {
-                return Optional.of(iter);
+    private Node<T> mergeSort(Node<T> first, Comparator<T> comparator) {
+        for (int width = 1; ; width <<= 1) {
+            Node<T> left = first;
+            Node<T> last = null;
+            int merges = 0;
+            first = null;
+
+            while (left != null) {
+                merges++;
+                Node<T> right = left;
+                int leftSize = 0;
+                while (leftSize < width && right != null) {
+                    right = right.next;
+                    leftSize++;
+                }
+                int rightSize = width;
+
+                while (leftSize > 0 || rightSize > 0 && right != null) {
+                    Node<T> next;
+                    if (leftSize == 0) {
+                        next = right;
+                        right = right.next;
+                        rightSize--;
+                    } else if (rightSize == 0 || right == null
+                            || comparator.compare(left.data, right.data) <= 0) {
+                        next = left;
+                        left = left.next;
+                        leftSize--;
+                    } else {
+                        next = right;
+                        right = right.next;
+                        rightSize--;
+                    }
+
+                    if (last == null) {
+                        first = next;
+                    } else {
+                        last.next = next;
+                    }
+                    next.prev = last;
+                    last = next;
+                }
+                left = right;
+            }
+
+            last.next = null;
+            if (merges <= 1) {
+                tail = last;
+                return first;
             }
         }
-        return Optional.empty();
     }
 
     /**
@@ -94,29 +410,8 @@ public class MyLinkedList<T> implements MyList<T> {
         if (idx == size) {
             add(elm);
         } else {
-            Node<T> newNode = new Node<>(elm);
-
-            if (idx == 0) {
-                newNode.next = head;
-                if (head != null) {
-                    head.prev = newNode;
-                }
-                head = newNode;
-            } else {
-                Node<T> prevNode = getNodeAtIndex(idx - 1);
-
-                newNode.next = prevNode.next;
-                newNode.prev = prevNode;
-                prevNode.next = newNode;
-
-                if (newNode.next != null) {
-                    newNode.next.prev = newNode;
-                } else {
-                    tail = newNode;
-                }
-            }
-
-            size++;
+            cursor = linkBefore(elm, getNodeAtIndex(idx));
+            cursorIdx = idx;
         }
     }
 
@@ -165,7 +460,7 @@ public class MyLinkedList<T> implements MyList<T> {
      */
     @Override
     public void add(T elm) {
-        Node<T> newNode = new Node<>(elm);
+        Node<T> newNode = newNode(elm);
         if (head == null) {
             head = newNode;
         } else {
@@ -174,6 +469,58 @@ public class MyLinkedList<T> implements MyList<T> {
         }
 	    tail = newNode;
 	    size++;
+	    modCount++;
+        if (index != null) {
+            index.appended(elm, size - 1);
+        }
+    }
+
+    /**
+     * Appends all elements of the specified array to the end of this MyLinkedList.
+     * The new nodes are linked together first and spliced onto the tail at once.
+     *
+     * @param elms the elements to be appended to this MyLinkedList.
+     */
+    @Override
+    public void addAll(T[] elms) {
+        Node<T> first = null;
+        Node<T> last = null;
+        for (T elm : elms) {
+            Node<T> node = newNode(elm);
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+                node.prev = last;
+            }
+            last = node;
+        }
+        linkLast(first, last, elms.length);
+    }
+
+    /**
+     * Appends all elements of the specified Iterable to the end of this MyLinkedList.
+     * The new nodes are linked together first and spliced onto the tail at once.
+     *
+     * @param elms the elements to be appended to this MyLinkedList.
+     */
+    @Override
+    public void addAll(Iterable<? extends T> elms) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T elm : elms) {
+            Node<T> node = newNode(elm);
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+                node.prev = last;
+            }
+            last = node;
+            count++;
+        }
+        linkLast(first, last, count);
     }
 
     /**
@@ -181,26 +528,53 @@ public class MyLinkedList<T> implements MyList<T> {
      *
      * @param idx the index of the element to return.
      * @return the element at the specified index in this MyLinkedList.
-     * @throws IndexOutOfBoundsException if the index is out of range (idx >= size).
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
      */
     @Override
     public T get(int idx) {
-        if (idx >= size) {
-            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
-        }
         return getNodeAtIndex(idx).data;
     }
 
+    /**
+     * Replaces the element at the specified index in this MyLinkedList.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T set(int idx, T elm) {
+        Node<T> node = getNodeAtIndex(idx);
+        T old = node.data;
+        if (index != null) {
+            if (node == tail) {
+                index.removedLast(old);
+                index.appended(elm, idx);
+            } else {
+                index.removed(old);
+                index.inserted(elm);
+            }
+        }
+        node.data = elm;
+        return old;
+    }
+
     /**
      * Removes all elements from this MyLinkedList, leaving it empty.
      */
     @Override
     public void clean() {
-        if (head != null) {
-            while (head.next != null) {
-                head.next = null;
-            }
-            head = null;
+        if (head != null && pooled < poolLimit) {
+            recycleChain(head, tail);
+        }
+        head = null;
+        tail = null;
+        cursor = null;
+        size = 0;
+        modCount++;
+        if (index != null) {
+            index.clear();
         }
     }
 
@@ -217,8 +591,14 @@ public class MyLinkedList<T> implements MyList<T> {
             throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
         }
         Node<T> current = getNodeAtIndex(idx);
+        Node<T> next = current.next;
+        T removedElement = current.data;
         delete(current);
-        return current.data;
+        if (next != null) {
+            cursor = next;
+            cursorIdx = idx;
+        }
+        return removedElement;
     }
 
     /**
@@ -229,31 +609,105 @@ public class MyLinkedList<T> implements MyList<T> {
      */
     @Override
     public boolean remove(T elm) {
-        Optional<Node<T>> node = findNode(elm);
-        if (node.isPresent()) {
-            delete(node.get());
+        if (index != null && !index.contains(elm)) {
+            return false;
+        }
+        // A position would still cost a walk to its node, so the node is searched for directly.
+        Node<T> node = findNode(elm);
+        if (node != null) {
+            delete(node);
             return true;
         }
         return false;
     }
 
+    /**
+     * Removes all elements with index in range [fromIdx, toIdx) from this MyLinkedList.
+     * The removed nodes are unlinked as one chain.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index of the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        if (fromIdx == toIdx) {
+            return;
+        }
+
+        Node<T> first = getNodeAtIndex(fromIdx);
+        Node<T> last = first;
+        for (int i = fromIdx + 1; i < toIdx; i++) {
+            last = last.next;
+        }
+
+        Node<T> before = first.prev;
+        Node<T> after = last.next;
+        cursor = null;
+        modCount++;
+        if (index != null) {
+            for (Node<T> iter = last; iter != before; iter = iter.prev) {
+                if (after == null) {
+                    index.removedLast(iter.data);
+                } else {
+                    index.removed(iter.data);
+                }
+            }
+        }
+        if (before == null) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        if (after == null) {
+            tail = before;
+        } else {
+            after.prev = before;
+        }
+        size -= toIdx - fromIdx;
+        if (pooled < poolLimit) {
+            recycleChain(first, last);
+        }
+    }
+
+    /**
+     * Removes all elements of this MyLinkedList that satisfy the specified predicate,
+     * unlinking each matching node in O(1).
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = false;
+        Node<T> iter = head;
+        while (iter != null) {
+            Node<T> next = iter.next;
+            if (filter.test(iter.data)) {
+                delete(iter);
+                removed = true;
+            }
+            iter = next;
+        }
+        return removed;
+    }
+
     /**
      * Sorts the elements of this MyLinkedList according to the specified comparator.
+     * The sort is stable and relinks the nodes instead of moving the data.
      *
      * @param comparator the comparator to determine the order of the elements.
      */
     @Override
     public void sort(Comparator<T> comparator) {
         if (size > 1) {
-            for (Node<T> i = head; i != null; i = i.next) {
-                for (Node<T> j = i.next; j != null; j = j.next) {
-                    if (comparator.compare(i.data, j.data) > 0) {
-                        T tmp = i.data;
-                        i.data = j.data;
-                        j.data = tmp;
-                    }
-                }
-            }
+            cursor = null;
+            modCount++;
+            invalidateIndex();
+            head = mergeSort(head, comparator);
         }
     }
 
@@ -275,7 +729,50 @@ public class MyLinkedList<T> implements MyList<T> {
      */
     @Override
     public boolean contains(T elm) {
-        return findNode(elm).isPresent();
+        if (index != null) {
+            return index.contains(elm);
+        }
+        return findNode(elm) != null;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this MyLinkedList.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if this MyLinkedList does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        if (index != null) {
+            return index.contains(elm) ? refreshedIndex().first(elm) : -1;
+        }
+        int idx = 0;
+        for (Node<T> iter = head; iter != null; iter = iter.next, idx++) {
+            if (Objects.equals(elm, iter.data)) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this MyLinkedList.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if this MyLinkedList does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        if (index != null) {
+            return index.contains(elm) ? refreshedIndex().last(elm) : -1;
+        }
+        int idx = size - 1;
+        for (Node<T> iter = tail; iter != null; iter = iter.prev, idx--) {
+            if (Objects.equals(elm, iter.data)) {
+                return idx;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -302,6 +799,7 @@ public class MyLinkedList<T> implements MyList<T> {
 	public Iterator<T> iterator() {
 		return new Iterator<>() {
 			private Node<T> current = head;
+			private final int expectedModCount = modCount;
 
 			/**
 			 * Checks if there is a next element in the iteration.
@@ -317,10 +815,14 @@ public class MyLinkedList<T> implements MyList<T> {
 			 * Returns the next element in the iteration and advances the iterator.
 			 *
 			 * @return the next element in the iteration.
-			 * @throws NoSuchElementException if there is no next element.
+			 * @throws NoSuchElementException          if there is no next element.
+			 * @throws ConcurrentModificationException if the list was structurally modified.
 			 */
 			@Override
 			public T next() {
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
 				if (!hasNext()) {
 					throw new NoSuchElementException("No more elements in the iteration.");
 				}
@@ -331,6 +833,225 @@ public class MyLinkedList<T> implements MyList<T> {
 		};
 	}
 
+	/**
+	 * Returns a list iterator over the elements in this MyLinkedList, starting at the beginning.
+	 * Removals, replacements and insertions through the iterator relink nodes at its position in O(1).
+	 *
+	 * @return a list iterator over the elements in this MyLinkedList in proper sequence.
+	 */
+	@Override
+	public ListIterator<T> listIterator() {
+		return new ListItr();
+	}
+
+	/**
+	 * List iterator keeping the node returned by the next call to next().
+	 */
+	private class ListItr implements ListIterator<T> {
+		private Node<T> next = head;
+		private Node<T> lastReturned;
+		private int nextIndex;
+		private int expectedModCount = modCount;
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < size;
+		}
+
+		@Override
+		public T next() {
+			checkForComodification();
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements in the iteration.");
+			}
+			lastReturned = next;
+			next = next.next;
+			nextIndex++;
+			return lastReturned.data;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return nextIndex > 0;
+		}
+
+		@Override
+		public T previous() {
+			checkForComodification();
+			if (!hasPrevious()) {
+				throw new NoSuchElementException("No more elements in the iteration.");
+			}
+			next = next == null ? tail : next.prev;
+			lastReturned = next;
+			nextIndex--;
+			return lastReturned.data;
+		}
+
+		@Override
+		public int nextIndex() {
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			return nextIndex - 1;
+		}
+
+		/**
+		 * Unlinks the node returned last in O(1).
+		 *
+		 * @throws IllegalStateException           if next or previous has not been called since the last remove or add.
+		 * @throws ConcurrentModificationException if the list was structurally modified.
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+			Node<T> lastNext = lastReturned.next;
+			delete(lastReturned);
+			if (next == lastReturned) {
+				next = lastNext;
+			} else {
+				nextIndex--;
+			}
+			lastReturned = null;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public void set(T elm) {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+			if (index != null) {
+				index.removed(lastReturned.data);
+				index.inserted(elm);
+			}
+			lastReturned.data = elm;
+		}
+
+		/**
+		 * Links a new node before the cursor in O(1).
+		 *
+		 * @throws ConcurrentModificationException if the list was structurally modified.
+		 */
+		@Override
+		public void add(T elm) {
+			checkForComodification();
+			lastReturned = null;
+			if (next == null) {
+				MyLinkedList.this.add(elm);
+			} else {
+				linkBefore(elm, next);
+			}
+			nextIndex++;
+			expectedModCount = modCount;
+		}
+	}
+
+	/**
+	 * Returns a spliterator over the elements in this MyLinkedList. Splits copy batches of
+	 * growing size into arrays, so parallel streams can work on them while the rest of the
+	 * chain is still being walked. The spliterator binds to the list on first use.
+	 *
+	 * @return a spliterator over the elements in this MyLinkedList.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new LinkedSpliterator();
+	}
+
+	/**
+	 * Spliterator walking the chain of nodes and splitting off array batches.
+	 */
+	private final class LinkedSpliterator implements Spliterator<T> {
+		private static final int BATCH_UNIT = 1 << 10;
+		private static final int MAX_BATCH = 1 << 25;
+
+		private Node<T> current;  // Node of the next element to be visited.
+		private int est = -1;  // Number of elements left, or -1 until first use.
+		private int expectedModCount;
+		private int batch;  // Size of the last split batch.
+
+		private int getEst() {
+			if (est < 0) {
+				current = head;
+				est = size;
+				expectedModCount = modCount;
+			}
+			return est;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int s = getEst();
+			if (s <= 1 || current == null) {
+				return null;
+			}
+			int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), s);
+			Object[] a = new Object[n];
+			Node<T> p = current;
+			int j = 0;
+			for (; j < n && p != null; j++, p = p.next) {
+				a[j] = p.data;
+			}
+			current = p;
+			batch = j;
+			est = s - j;
+			return Spliterators.spliterator(a, 0, j, Spliterator.ORDERED);
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			Objects.requireNonNull(action);
+			if (getEst() <= 0 || current == null) {
+				return false;
+			}
+			Node<T> p = current;
+			est--;
+			current = p.next;
+			action.accept(p.data);
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			Objects.requireNonNull(action);
+			int n = getEst();
+			Node<T> p = current;
+			current = null;
+			est = 0;
+			for (; n > 0 && p != null; n--, p = p.next) {
+				action.accept(p.data);
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public long estimateSize() {
+			return getEst();
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+	}
+
 	/**
 	 * Node class representing elements in the linked list.
 	 *
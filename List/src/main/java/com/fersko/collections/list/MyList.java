@@ -2,6 +2,12 @@ package com.fersko.collections.list;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Interface representing a generic list of elements.
@@ -26,6 +32,37 @@ public interface MyList<T> extends Iterable<T> {
 	 */
 	void add(T elm);
 
+	/**
+	 * Appends all elements of the specified array to the end of the list, in array order.
+	 *
+	 * @param elms the elements to be appended to the list.
+	 */
+	default void addAll(T[] elms) {
+		for (T elm : elms) {
+			add(elm);
+		}
+	}
+
+	/**
+	 * Appends all elements of the specified Iterable to the end of the list, in iteration order.
+	 *
+	 * @param elms the elements to be appended to the list.
+	 */
+	default void addAll(Iterable<? extends T> elms) {
+		for (T elm : elms) {
+			add(elm);
+		}
+	}
+
+	/**
+	 * Appends all elements of the specified list to the end of this list, in proper sequence.
+	 *
+	 * @param elms the list whose elements are to be appended to this list.
+	 */
+	default void addAll(MyList<? extends T> elms) {
+		addAll((Iterable<? extends T>) elms);
+	}
+
 	/**
 	 * Returns the element at the specified index in the list.
 	 *
@@ -35,6 +72,16 @@ public interface MyList<T> extends Iterable<T> {
 	 */
 	T get(int idx);
 
+	/**
+	 * Replaces the element at the specified position in the list.
+	 *
+	 * @param idx the index of the element to replace.
+	 * @param elm the element to be stored at the specified index.
+	 * @return the element previously at the specified index.
+	 * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+	 */
+	T set(int idx, T elm);
+
 	/**
 	 * Removes all elements from the list, leaving it empty.
 	 */
@@ -57,6 +104,33 @@ public interface MyList<T> extends Iterable<T> {
 	 */
 	boolean remove(T elm);
 
+	/**
+	 * Removes all elements with index in range [fromIdx, toIdx) from the list.
+	 *
+	 * @param fromIdx the index of the first element to be removed, inclusive.
+	 * @param toIdx   the index of the last element to be removed, exclusive.
+	 * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+	 */
+	void removeRange(int fromIdx, int toIdx);
+
+	/**
+	 * Removes all elements of the list that satisfy the specified predicate.
+	 *
+	 * @param filter the predicate which returns true for elements to be removed.
+	 * @return true if any elements were removed.
+	 */
+	boolean removeIf(Predicate<? super T> filter);
+
+	/**
+	 * Retains only the elements of the list that are contained in the specified list.
+	 *
+	 * @param elms the list of elements to be retained in this list.
+	 * @return true if this list changed as a result of the call.
+	 */
+	default boolean retainAll(MyList<T> elms) {
+		return removeIf(elm -> !elms.contains(elm));
+	}
+
 	/**
 	 * Sorts the elements of the list according to the specified comparator.
 	 *
@@ -79,6 +153,22 @@ public interface MyList<T> extends Iterable<T> {
 	 */
 	boolean contains(T elm);
 
+	/**
+	 * Returns the index of the first occurrence of the specified element in the list.
+	 *
+	 * @param elm the element to search for, may be null.
+	 * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+	 */
+	int indexOf(T elm);
+
+	/**
+	 * Returns the index of the last occurrence of the specified element in the list.
+	 *
+	 * @param elm the element to search for, may be null.
+	 * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+	 */
+	int lastIndexOf(T elm);
+
 	/**
 	 * Returns an array containing all of the elements in the list in proper sequence.
 	 *
@@ -94,4 +184,42 @@ public interface MyList<T> extends Iterable<T> {
 	 */
 	Iterator<T> iterator();
 
+	/**
+	 * Returns a list iterator over the elements in this list, starting at the beginning.
+	 * The iterator can remove, replace and insert elements at its current position, where the list
+	 * supports it, and throws ConcurrentModificationException if the list is changed past it.
+	 *
+	 * @return a list iterator over the elements in this list in proper sequence.
+	 */
+	ListIterator<T> listIterator();
+
+	/**
+	 * Returns a spliterator over the elements in this list that reports its exact size.
+	 * The default implementation splits the iterator of the list into batches.
+	 *
+	 * @return a spliterator over the elements in this list.
+	 */
+	@Override
+	default Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+	}
+
+	/**
+	 * Returns a sequential stream over the elements in this list.
+	 *
+	 * @return a sequential stream over the elements in this list.
+	 */
+	default Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns a possibly parallel stream over the elements in this list.
+	 *
+	 * @return a possibly parallel stream over the elements in this list.
+	 */
+	default Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
 }
@@ -0,0 +1,58 @@
+package com.fersko.collections.list;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Implementation of the MyList interface keeping its elements outside of the Java heap.
+ * Elements are encoded by an {@link ElementCodec} into direct ByteBuffer chunks of a fixed
+ * number of elements. The list grows by allocating new chunks, so existing elements are never
+ * copied on growth. The native memory is released by {@link #close()}.
+ * Null elements cannot be stored.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class OffHeapList<T> extends AbstractByteChunkList<T> {
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 1 << 14;
+
+    /**
+     * Constructs an empty OffHeapList with chunks of 16384 elements.
+     *
+     * @param codec the codec encoding the elements.
+     */
+    public OffHeapList(ElementCodec<T> codec) {
+        this(codec, DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty OffHeapList with the specified number of elements per chunk.
+     *
+     * @param codec         the codec encoding the elements.
+     * @param chunkCapacity the number of elements per chunk, a power of two.
+     * @throws IllegalArgumentException if the chunk capacity is not a positive power of two
+     *                                  or a chunk would exceed 2 GB.
+     */
+    public OffHeapList(ElementCodec<T> codec, int chunkCapacity) {
+        super(codec, chunkCapacity);
+    }
+
+    @Override
+    ByteBuffer allocateChunk(int chunkIdx, int chunkBytes) {
+        return ByteBuffer.allocateDirect(chunkBytes).order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    void releaseChunk(ByteBuffer chunk) {
+        DirectBuffers.free(chunk);
+    }
+
+    /**
+     * Releases the native memory held by the list. The list cannot be used afterwards;
+     * closing an already closed list has no effect.
+     */
+    @Override
+    public void close() {
+        super.close();
+    }
+}
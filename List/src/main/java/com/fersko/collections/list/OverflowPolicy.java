@@ -0,0 +1,23 @@
+package com.fersko.collections.list;
+
+/**
+ * What a {@link BoundedList} does with an element added while it is full.
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * The element is rejected: offer returns false and add throws IllegalStateException.
+	 */
+	REJECT,
+
+	/**
+	 * The first, oldest element is removed to make room for the new one.
+	 */
+	OVERWRITE_OLDEST,
+
+	/**
+	 * The caller waits until another thread removes an element, at most for the configured timeout,
+	 * and the element is rejected if the list is still full.
+	 */
+	BLOCK
+}
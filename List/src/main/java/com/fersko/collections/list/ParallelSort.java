@@ -0,0 +1,65 @@
+package com.fersko.collections.list;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join merge sort over an Object[] range. The range is split in halves until
+ * a part is not longer than the sequential threshold, the parts are sorted with
+ * {@link TimSort} in parallel and the sorted halves are merged back pairwise.
+ *
+ * @param <T> the type of elements being sorted.
+ */
+final class ParallelSort<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object[] a;
+
+    private final transient Comparator<? super T> comparator;
+
+    private final int lo;
+
+    private final int hi;
+
+    private final int threshold;
+
+    private ParallelSort(Object[] a, int lo, int hi, int threshold, Comparator<? super T> comparator) {
+        this.a = a;
+        this.lo = lo;
+        this.hi = hi;
+        this.threshold = threshold;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Sorts the range [lo, hi) of the specified array on the common ForkJoinPool.
+     *
+     * @param a          the array to be sorted.
+     * @param lo         the index of the first element, inclusive, to be sorted.
+     * @param hi         the index of the last element, exclusive, to be sorted.
+     * @param threshold  the length up to which a part is sorted sequentially.
+     * @param comparator the comparator to determine the order of the elements.
+     * @param <T>        the type of elements being sorted.
+     */
+    static <T> void sort(Object[] a, int lo, int hi, int threshold, Comparator<? super T> comparator) {
+        if (hi - lo <= threshold || ForkJoinPool.getCommonPoolParallelism() == 1) {
+            TimSort.sort(a, lo, hi, comparator);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ParallelSort<>(a, lo, hi, threshold, comparator));
+        }
+    }
+
+    @Override
+    protected void compute() {
+        if (hi - lo <= threshold) {
+            TimSort.sort(a, lo, hi, comparator);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        invokeAll(new ParallelSort<>(a, lo, mid, threshold, comparator),
+                new ParallelSort<>(a, mid, hi, threshold, comparator));
+        TimSort.merge(a, lo, mid, hi, comparator);
+    }
+}
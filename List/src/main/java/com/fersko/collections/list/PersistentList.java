@@ -0,0 +1,593 @@
+package com.fersko.collections.list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of the MyList interface as a 32-way trie vector with structural sharing.
+ *
+ * <p>Elements are stored in leaves of 32 elements under a tree of 32-way branch nodes, and
+ * the last leaf is kept aside as a tail, so get, set, append and removal of the last element
+ * cost O(log32 n). {@link #snapshot()} returns an independent list in O(1) that shares every
+ * node with this one; after a snapshot both lists copy the nodes on the path they change.
+ *
+ * <p>Every node remembers the list instance that created it. Nodes created by this list since
+ * its last snapshot are changed in place, so a list that is being built (the transient mode)
+ * appends without copying anything. Insertion and removal in the middle rebuild the list in O(n).
+ *
+ * <p>A list must not be changed by several threads at once; a snapshot that is published safely
+ * can be read by any number of threads while the original keeps changing.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class PersistentList<T> implements MyList<T> {
+
+    private static final int BITS = 5;
+
+    private static final int WIDTH = 1 << BITS;
+
+    private static final int MASK = WIDTH - 1;
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    /**
+     * Node of the trie: branch nodes hold child nodes, leaves hold elements.
+     */
+    private static final class Node {
+        /**
+         * Token of the list allowed to change the node in place.
+         */
+        final Object owner;
+        final Object[] array;
+
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Token marking the nodes this list may change in place; replaced by every snapshot.
+     */
+    private Object owner = new Object();
+
+    private Node root;
+
+    private Node tail;
+
+    private int shift;
+
+    private int size;
+
+    /**
+     * Number of structural modifications, checked by the list iterator to detect concurrent modification.
+     */
+    private int modCount;
+
+    /**
+     * Constructs an empty PersistentList.
+     */
+    public PersistentList() {
+        reset();
+    }
+
+    private PersistentList(Node root, Node tail, int shift, int size) {
+        this.root = root;
+        this.tail = tail;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    /**
+     * Makes the list empty with new nodes owned by it.
+     */
+    private void reset() {
+        root = new Node(owner, new Object[WIDTH]);
+        tail = new Node(owner, new Object[WIDTH]);
+        shift = BITS;
+        size = 0;
+    }
+
+    /**
+     * @return the index of the first element stored in the tail.
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Returns the node itself if this list owns it, or a copy owned by this list otherwise.
+     */
+    private Node editable(Node node) {
+        return node.owner == owner ? node : new Node(owner, node.array.clone());
+    }
+
+    /**
+     * Returns the leaf holding the element with the specified index.
+     *
+     * @param idx the index of the element, 0 <= idx < size.
+     * @return the leaf node, possibly the tail.
+     */
+    private Node leafFor(int idx) {
+        if (idx >= tailOffset()) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(idx >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Creates a chain of single-child branch nodes of the specified height above the node.
+     */
+    private Node newPath(int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(owner, new Object[WIDTH]);
+        path.array[0] = newPath(level - BITS, node);
+        return path;
+    }
+
+    /**
+     * Inserts the full tail as the rightmost leaf under the specified branch node.
+     */
+    private Node pushTail(int level, Node parent, Node tailNode) {
+        Node result = editable(parent);
+        int subIdx = ((size - 1) >>> level) & MASK;
+        Node inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIdx];
+            inserted = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        result.array[subIdx] = inserted;
+        return result;
+    }
+
+    /**
+     * Removes the rightmost leaf under the specified branch node.
+     *
+     * @return the changed node, or null if the node became empty.
+     */
+    private Node popTail(int level, Node node) {
+        int subIdx = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node child = popTail(level - BITS, (Node) node.array[subIdx]);
+            if (child == null && subIdx == 0) {
+                return null;
+            }
+            Node result = editable(node);
+            result.array[subIdx] = child;
+            return result;
+        }
+        if (subIdx == 0) {
+            return null;
+        }
+        Node result = editable(node);
+        result.array[subIdx] = null;
+        return result;
+    }
+
+    /**
+     * Replaces the element at the specified index under the specified branch node.
+     */
+    private Node doSet(int level, Node node, int idx, Object elm) {
+        Node result = editable(node);
+        if (level == 0) {
+            result.array[idx & MASK] = elm;
+        } else {
+            int subIdx = (idx >>> level) & MASK;
+            result.array[subIdx] = doSet(level - BITS, (Node) node.array[subIdx], idx, elm);
+        }
+        return result;
+    }
+
+    /**
+     * Removes the last element of the list.
+     */
+    private void removeLast() {
+        if (size == 1) {
+            reset();
+            return;
+        }
+        if (size - tailOffset() > 1) {
+            tail = editable(tail);
+            tail.array[(size - 1) & MASK] = null;
+            size--;
+            return;
+        }
+        Node newTail = leafFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        if (newRoot == null) {
+            newRoot = new Node(owner, new Object[WIDTH]);
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            shift -= BITS;
+        }
+        root = newRoot;
+        tail = newTail;
+        size--;
+    }
+
+    /**
+     * Replaces the content of the list with the first n elements of the array.
+     */
+    private void rebuild(Object[] elms, int n) {
+        reset();
+        for (int i = 0; i < n; i++) {
+            appendElm(elms[i]);
+        }
+    }
+
+    /**
+     * Appends the element, pushing the full tail into the tree first if needed.
+     */
+    private void appendElm(Object elm) {
+        if (size - tailOffset() < WIDTH) {
+            tail = editable(tail);
+            tail.array[size & MASK] = elm;
+            size++;
+            return;
+        }
+        Node tailNode = tail;
+        tail = new Node(owner, new Object[WIDTH]);
+        tail.array[0] = elm;
+        if ((size >>> BITS) > (1 << shift)) {
+            Node newRoot = new Node(owner, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(shift, tailNode);
+            root = newRoot;
+            shift += BITS;
+        } else {
+            root = pushTail(shift, root, tailNode);
+        }
+        size++;
+    }
+
+    /**
+     * Returns an independent list holding the same elements in O(1).
+     * The two lists share all of their nodes; changing either of them afterwards copies
+     * only the nodes on the changed path, so neither sees the changes of the other.
+     *
+     * @return the snapshot of the list.
+     */
+    public PersistentList<T> snapshot() {
+        PersistentList<T> copy = new PersistentList<>(root, tail, shift, size);
+        owner = new Object();
+        return copy;
+    }
+
+    /**
+     * Replaces the element at the specified index in the list.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T set(int idx, T elm) {
+        T old = get(idx);
+        if (idx >= tailOffset()) {
+            tail = editable(tail);
+            tail.array[idx & MASK] = elm;
+        } else {
+            root = doSet(shift, root, idx, elm);
+        }
+        return old;
+    }
+
+    /**
+     * Inserts the specified element at the specified index in the list.
+     * Appending costs O(log n); inserting before the end rebuilds the list.
+     *
+     * @param idx the index at which the element is to be inserted.
+     * @param elm the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     */
+    @Override
+    public void add(int idx, T elm) {
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        modCount++;
+        if (idx == size) {
+            appendElm(elm);
+            return;
+        }
+        Object[] elms = new Object[size + 1];
+        copyTo(elms, 0, idx, 0);
+        elms[idx] = elm;
+        copyTo(elms, idx, size, idx + 1);
+        rebuild(elms, elms.length);
+    }
+
+    /**
+     * Appends the specified element to the end of the list.
+     *
+     * @param elm the element to be appended to the list.
+     */
+    @Override
+    public void add(T elm) {
+        appendElm(elm);
+        modCount++;
+    }
+
+    /**
+     * Returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        return (T) leafFor(idx).array[idx & MASK];
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty. Snapshots keep their elements.
+     */
+    @Override
+    public void clean() {
+        reset();
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index in the list.
+     * Removing the last element costs O(log n); removing any other element rebuilds the list.
+     *
+     * @param idx the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T remove(int idx) {
+        T removed = get(idx);
+        if (idx == size - 1) {
+            removeLast();
+            modCount++;
+        } else {
+            removeRange(idx, idx + 1);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list, if it is present.
+     *
+     * @param elm the element to be removed from the list.
+     * @return true if the list contained the specified element.
+     */
+    @Override
+    public boolean remove(T elm) {
+        int idx = indexOf(elm);
+        if (idx < 0) {
+            return false;
+        }
+        remove(idx);
+        return true;
+    }
+
+    /**
+     * Removes the elements in the range [fromIdx, toIdx) from the list.
+     * A range at the end of the list is removed element by element from the end,
+     * any other range rebuilds the list.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index after the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        modCount++;
+        if (toIdx == size) {
+            while (size > fromIdx) {
+                removeLast();
+            }
+            return;
+        }
+        Object[] elms = new Object[size - (toIdx - fromIdx)];
+        copyTo(elms, 0, fromIdx, 0);
+        copyTo(elms, toIdx, size, fromIdx);
+        rebuild(elms, elms.length);
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the given predicate, rebuilding the list once.
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        Object[] elms = new Object[size];
+        int kept = 0;
+        for (T elm : this) {
+            if (!filter.test(elm)) {
+                elms[kept++] = elm;
+            }
+        }
+        if (kept == size) {
+            return false;
+        }
+        rebuild(elms, kept);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator and rebuilds the list.
+     * The sort is stable.
+     *
+     * @param comparator the comparator used to compare elements.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        Object[] elms = toArray();
+        TimSort.sort(elms, 0, elms.length, comparator);
+        rebuild(elms, elms.length);
+        modCount++;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list contains the specified element.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        for (int base = 0; base < size; base += WIDTH) {
+            Object[] leaf = leafFor(base).array;
+            int end = Math.min(WIDTH, size - base);
+            for (int i = 0; i < end; i++) {
+                if (Objects.equals(elm, leaf[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        for (int base = tailOffset(); base >= 0; base -= WIDTH) {
+            Object[] leaf = leafFor(base).array;
+            for (int i = Math.min(WIDTH, size - base) - 1; i >= 0; i--) {
+                if (Objects.equals(elm, leaf[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copies the elements in the range [from, to) into the array starting at the specified position.
+     */
+    private void copyTo(Object[] dest, int from, int to, int destPos) {
+        int idx = from;
+        while (idx < to) {
+            int count = Math.min(WIDTH - (idx & MASK), to - idx);
+            System.arraycopy(leafFor(idx).array, idx & MASK, dest, destPos, count);
+            idx += count;
+            destPos += count;
+        }
+    }
+
+    /**
+     * Returns an array containing all of the elements in the list in proper sequence.
+     *
+     * @return a new array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array, 0, size, 0);
+        return (T[]) array;
+    }
+
+    /**
+     * @return an iterator over the elements in the list in proper sequence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int currentIdx;  // Index of the current element in the iteration.
+            private Object[] leaf;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return currentIdx < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the iteration.");
+                }
+                if ((currentIdx & MASK) == 0) {
+                    leaf = leafFor(currentIdx).array;
+                }
+                return (T) leaf[currentIdx++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Returns a list iterator over the elements in the list, working through its index-based methods.
+     *
+     * @return a list iterator over the elements in the list in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new IndexListIterator<>(this, () -> modCount);
+    }
+
+    /**
+     * Returns a string representation of the PersistentList.
+     *
+     * @return a string representation of the PersistentList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
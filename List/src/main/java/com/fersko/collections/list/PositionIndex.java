@@ -0,0 +1,196 @@
+package com.fersko.collections.list;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index from the elements of a list to their occurrence counts and positions, used by the
+ * lists for O(1) membership and index lookups. The counts follow every addition and removal,
+ * so membership never needs a rebuild. The positions follow appends and removals of the last
+ * element in place; any other structural change marks them stale, and the next position lookup
+ * rebuilds them in a single pass over the list.
+ */
+final class PositionIndex {
+
+    private final Map<Object, Entry> entries = new HashMap<>();
+
+    private boolean stale;
+
+    /**
+     * Occurrences of one element: how many there are and, while the positions are fresh,
+     * where the first one is and where the others are in ascending order.
+     */
+    private static final class Entry {
+
+        private int count;
+
+        private int first = -1;
+
+        private IntList others;
+
+        private void record(int idx) {
+            if (first < 0) {
+                first = idx;
+            } else {
+                if (others == null) {
+                    others = new IntList(4);
+                }
+                others.add(idx);
+            }
+        }
+
+        private int last() {
+            return others == null || others.size() == 0 ? first : others.get(others.size() - 1);
+        }
+    }
+
+    /**
+     * Constructs an index of the specified elements.
+     *
+     * @param elms the elements of the list in proper sequence.
+     */
+    PositionIndex(Iterable<?> elms) {
+        int idx = 0;
+        for (Object elm : elms) {
+            appended(elm, idx++);
+        }
+    }
+
+    /**
+     * Records the specified element appended at the specified index, the last one of the list.
+     *
+     * @param elm the appended element, may be null.
+     * @param idx the index of the appended element.
+     */
+    void appended(Object elm, int idx) {
+        Entry entry = entries.computeIfAbsent(elm, k -> new Entry());
+        entry.count++;
+        if (!stale) {
+            entry.record(idx);
+        }
+    }
+
+    /**
+     * Records the specified element inserted before the end of the list, which makes the positions stale.
+     *
+     * @param elm the inserted element, may be null.
+     */
+    void inserted(Object elm) {
+        entries.computeIfAbsent(elm, k -> new Entry()).count++;
+        stale = true;
+    }
+
+    /**
+     * Forgets the specified element removed from the end of the list.
+     *
+     * @param elm the removed element, may be null.
+     */
+    void removedLast(Object elm) {
+        Entry entry = decrement(elm);
+        if (entry != null && !stale) {
+            entry.others.remove(entry.others.size() - 1);
+        }
+    }
+
+    /**
+     * Forgets the specified element removed before the end of the list, which makes the positions stale.
+     *
+     * @param elm the removed element, may be null.
+     */
+    void removed(Object elm) {
+        decrement(elm);
+        stale = true;
+    }
+
+    /**
+     * Decrements the count of the specified element and drops its entry when none are left.
+     *
+     * @param elm the removed element, may be null.
+     * @return the entry of the element, or null if it was the last occurrence.
+     */
+    private Entry decrement(Object elm) {
+        Entry entry = entries.get(elm);
+        if (--entry.count == 0) {
+            entries.remove(elm);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Marks the positions stale after a change that moves the elements without adding or removing any.
+     */
+    void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Empties the index of a list that has been emptied.
+     */
+    void clear() {
+        entries.clear();
+        stale = false;
+    }
+
+    /**
+     * Checks if the positions are up to date, so that first and last can be used without a refresh.
+     *
+     * @return true if the positions are up to date.
+     */
+    boolean isFresh() {
+        return !stale;
+    }
+
+    /**
+     * Checks if the list contains the specified element. Never needs a refresh.
+     *
+     * @param elm the element to be checked for presence, may be null.
+     * @return true if the list contains at least one occurrence of the element.
+     */
+    boolean contains(Object elm) {
+        return entries.containsKey(elm);
+    }
+
+    /**
+     * Re-records the positions from the elements of the list if they are stale. The counts are kept.
+     *
+     * @param elms the elements of the list in proper sequence.
+     */
+    void refresh(Iterable<?> elms) {
+        if (stale) {
+            for (Entry entry : entries.values()) {
+                entry.first = -1;
+                if (entry.others != null) {
+                    entry.others.clean();
+                }
+            }
+            int idx = 0;
+            for (Object elm : elms) {
+                entries.get(elm).record(idx++);
+            }
+            stale = false;
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element. The positions must be fresh.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    int first(Object elm) {
+        Entry entry = entries.get(elm);
+        return entry == null ? -1 : entry.first;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element. The positions must be fresh.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    int last(Object elm) {
+        Entry entry = entries.get(elm);
+        return entry == null ? -1 : entry.last();
+    }
+}
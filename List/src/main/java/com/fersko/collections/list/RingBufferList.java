@@ -0,0 +1,548 @@
+package com.fersko.collections.list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of the MyList interface as a circular buffer, usable as a double-ended queue.
+ *
+ * <p>The elements occupy a run of a power-of-two array that may wrap around its end, starting at
+ * the head slot. Adding and removing at either end moves the head or the end of the run in O(1)
+ * without allocating, and get(idx) finds slot (head + idx) by masking. Insertions and removals in
+ * the middle shift the elements on the shorter side of the index, so they move at most size / 2 elements.
+ * The array doubles when it is full.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class RingBufferList<T> implements MyList<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    private static final String EMPTY_ERROR = "List is empty!";
+
+    private Object[] data;
+
+    /**
+     * Slot of the first element.
+     */
+    private int head;
+
+    private int size;
+
+    /**
+     * Number of structural modifications, checked by the iterator to detect concurrent modification.
+     */
+    private int modCount;
+
+    /**
+     * Constructs an empty RingBufferList with an initial capacity of 16.
+     */
+    public RingBufferList() {
+        data = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Constructs an empty RingBufferList that holds at least the specified number of elements
+     * before growing. The capacity is rounded up to a power of two.
+     *
+     * @param sizeCapacity the initial capacity of the list.
+     * @throws IllegalArgumentException if the specified initial capacity is non-positive or too large.
+     */
+    public RingBufferList(int sizeCapacity) {
+        if (sizeCapacity <= 0 || sizeCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Error size capacity");
+        }
+        data = new Object[sizeCapacity == 1 ? 1 : Integer.highestOneBit(sizeCapacity - 1) << 1];
+    }
+
+    /**
+     * @return the slot of the element with the specified index.
+     */
+    private int slot(int idx) {
+        return (head + idx) & (data.length - 1);
+    }
+
+    /**
+     * Doubles the array when it is full, unwrapping the elements to start at slot 0.
+     *
+     * @throws OutOfMemoryError if the array cannot grow any further.
+     */
+    private void growIfFull() {
+        if (size == data.length) {
+            if (data.length == MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required array size too large");
+            }
+            Object[] newData = new Object[data.length << 1];
+            int headPart = data.length - head;
+            System.arraycopy(data, head, newData, 0, headPart);
+            System.arraycopy(data, 0, newData, headPart, head);
+            data = newData;
+            head = 0;
+        }
+    }
+
+    /**
+     * Copies the element at index from to index to, both given as indexes of the list.
+     */
+    private void move(int from, int to) {
+        data[slot(to)] = data[slot(from)];
+    }
+
+    /**
+     * Inserts the specified element at the front of the list in O(1).
+     *
+     * @param elm the element to be inserted.
+     */
+    public void addFirst(T elm) {
+        growIfFull();
+        modCount++;
+        head = (head - 1) & (data.length - 1);
+        data[head] = elm;
+        size++;
+    }
+
+    /**
+     * Appends the specified element to the end of the list in O(1).
+     *
+     * @param elm the element to be appended.
+     */
+    public void addLast(T elm) {
+        growIfFull();
+        modCount++;
+        data[slot(size)] = elm;
+        size++;
+    }
+
+    /**
+     * Removes and returns the first element of the list in O(1).
+     *
+     * @return the first element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException(EMPTY_ERROR);
+        }
+        modCount++;
+        T elm = (T) data[head];
+        data[head] = null;
+        head = (head + 1) & (data.length - 1);
+        size--;
+        return elm;
+    }
+
+    /**
+     * Removes and returns the last element of the list in O(1).
+     *
+     * @return the last element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException(EMPTY_ERROR);
+        }
+        modCount++;
+        int last = slot(--size);
+        T elm = (T) data[last];
+        data[last] = null;
+        return elm;
+    }
+
+    /**
+     * Returns the first element of the list.
+     *
+     * @return the first element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException(EMPTY_ERROR);
+        }
+        return (T) data[head];
+    }
+
+    /**
+     * Returns the last element of the list.
+     *
+     * @return the last element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException(EMPTY_ERROR);
+        }
+        return (T) data[slot(size - 1)];
+    }
+
+    /**
+     * Inserts an element at the specified index, shifting the elements before it towards the front
+     * or the elements after it towards the back, whichever side is shorter.
+     *
+     * @param idx the index at which the specified element is to be inserted.
+     * @param elm the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     */
+    @Override
+    public void add(int idx, T elm) {
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        growIfFull();
+        modCount++;
+        if (idx < size - idx) {
+            head = (head - 1) & (data.length - 1);
+            for (int i = 0; i < idx; i++) {
+                move(i + 1, i);
+            }
+        } else {
+            for (int i = size; i > idx; i--) {
+                move(i - 1, i);
+            }
+        }
+        data[slot(idx)] = elm;
+        size++;
+    }
+
+    /**
+     * Appends the specified element to the end of the list in O(1).
+     *
+     * @param elm the element to be appended to the list.
+     */
+    @Override
+    public void add(T elm) {
+        addLast(elm);
+    }
+
+    /**
+     * Returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        return (T) data[slot(idx)];
+    }
+
+    /**
+     * Replaces the element at the specified index in the list.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int idx, T elm) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        int s = slot(idx);
+        T old = (T) data[s];
+        data[s] = elm;
+        return old;
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty. The array is kept and reused.
+     */
+    @Override
+    public void clean() {
+        for (int i = 0; i < size; i++) {
+            data[slot(i)] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index, closing the hole from the shorter side.
+     *
+     * @param idx the index of the element to be removed.
+     * @return the element that was removed from the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T remove(int idx) {
+        T removedElement = get(idx);
+        removeRange(idx, idx + 1);
+        return removedElement;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list, if it is present.
+     *
+     * @param elm the element to be removed from the list, if present.
+     * @return true if the list contained the specified element.
+     */
+    @Override
+    public boolean remove(T elm) {
+        int idx = indexOf(elm);
+        if (idx >= 0) {
+            removeRange(idx, idx + 1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all elements with index in range [fromIdx, toIdx), moving the elements before
+     * the range towards the back or the elements after it towards the front, whichever side is shorter.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index of the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        int count = toIdx - fromIdx;
+        if (count == 0) {
+            return;
+        }
+        modCount++;
+        if (fromIdx < size - toIdx) {
+            for (int i = fromIdx - 1; i >= 0; i--) {
+                move(i, i + count);
+            }
+            for (int i = 0; i < count; i++) {
+                data[slot(i)] = null;
+            }
+            head = slot(count);
+        } else {
+            for (int i = toIdx; i < size; i++) {
+                move(i, i - count);
+            }
+            for (int i = size - count; i < size; i++) {
+                data[slot(i)] = null;
+            }
+        }
+        size -= count;
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the specified predicate,
+     * compacting the remaining elements towards the head in a single pass.
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        int end = size;
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < end; read++) {
+                Object elm = data[slot(read)];
+                if (!filter.test((T) elm)) {
+                    data[slot(write++)] = elm;
+                }
+            }
+        } finally {
+            // Keeps the unvisited tail if the predicate throws.
+            for (; read < end; read++) {
+                move(read, write++);
+            }
+            for (int i = write; i < end; i++) {
+                data[slot(i)] = null;
+            }
+            size = write;
+            if (write != end) {
+                modCount++;
+            }
+        }
+        return write != end;
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator.
+     * The elements are unwrapped to start at slot 0 first, then sorted in place. The sort is stable.
+     *
+     * @param comparator the comparator to determine the order of the list.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        modCount++;
+        if (head + size > data.length) {
+            Object[] newData = new Object[data.length];
+            int headPart = data.length - head;
+            System.arraycopy(data, head, newData, 0, headPart);
+            System.arraycopy(data, 0, newData, headPart, size - headPart);
+            data = newData;
+            head = 0;
+        }
+        TimSort.sort(data, head, head + size, comparator);
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list contains the specified element.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elm, data[slot(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(elm, data[slot(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing all of the elements in the list in proper sequence.
+     *
+     * @return an array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        Object[] array = new Object[size];
+        int headPart = Math.min(size, data.length - head);
+        System.arraycopy(data, head, array, 0, headPart);
+        System.arraycopy(data, 0, array, headPart, size - headPart);
+        return (T[]) array;
+    }
+
+    /**
+     * Compares this RingBufferList with the specified object for equality.
+     *
+     * @param o the object to be compared for equality with this RingBufferList.
+     * @return true if the specified object is a RingBufferList with equal elements in the same order.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!( o instanceof RingBufferList ))
+            return false;
+        RingBufferList<?> that = (RingBufferList<?>) o;
+        return Arrays.equals(toArray(), that.toArray());
+    }
+
+    /**
+     * Returns a hash code value for this RingBufferList.
+     *
+     * @return a hash code value for this RingBufferList.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Objects.hashCode(data[slot(i)]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a string representation of the RingBufferList.
+     *
+     * @return a string representation of the RingBufferList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * @return an iterator over the elements in this RingBufferList from the first to the last.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int currentIdx;  // Index of the current element in the iteration.
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return currentIdx < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the iteration.");
+                }
+                return (T) data[slot(currentIdx++)];
+            }
+        };
+    }
+
+    /**
+     * Returns a list iterator over the elements in the list, working through its index-based methods.
+     *
+     * @return a list iterator over the elements in the list in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new IndexListIterator<>(this, () -> modCount);
+    }
+
+}
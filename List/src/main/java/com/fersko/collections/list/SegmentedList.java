@@ -0,0 +1,503 @@
+package com.fersko.collections.list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of the MyList interface storing its elements in fixed-size chunks.
+ * The list grows by allocating one more chunk, so existing elements are never copied
+ * on growth and no single large array is allocated; with the default chunks of 4096
+ * elements every chunk stays far below the humongous-object threshold of G1.
+ * An element is found by shifting and masking its index, so get and set are O(1).
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class SegmentedList<T> implements MyList<T> {
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 1 << 12;
+
+    private static final int INITIAL_DIRECTORY_LENGTH = 8;
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    private final int chunkShift;
+
+    private final int chunkMask;
+
+    private Object[][] chunks = new Object[INITIAL_DIRECTORY_LENGTH][];
+
+    private int chunkCount;
+
+    private int size;
+
+    /**
+     * Number of structural modifications, checked by the iterator to detect concurrent modification.
+     */
+    private int modCount;
+
+    /**
+     * Constructs an empty SegmentedList with chunks of 4096 elements.
+     */
+    public SegmentedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty SegmentedList with the specified number of elements per chunk.
+     *
+     * @param chunkCapacity the number of elements per chunk, a power of two.
+     * @throws IllegalArgumentException if the chunk capacity is not a positive power of two.
+     */
+    public SegmentedList(int chunkCapacity) {
+        if (chunkCapacity <= 0 || Integer.bitCount(chunkCapacity) != 1) {
+            throw new IllegalArgumentException("Error chunk capacity");
+        }
+        chunkShift = Integer.numberOfTrailingZeros(chunkCapacity);
+        chunkMask = chunkCapacity - 1;
+    }
+
+    private Object at(Object[][] cs, int idx) {
+        return cs[idx >>> chunkShift][idx & chunkMask];
+    }
+
+    /**
+     * Allocates chunks, if needed, so that the list can hold at least the specified number of elements.
+     * Only the chunk directory is copied when it is full.
+     */
+    private void ensureCapacityInternal(int minCapacity) {
+        int needed = (int) (((long) minCapacity + chunkMask) >>> chunkShift);
+        if (needed > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunks.length * 2, needed));
+        }
+        for (; chunkCount < needed; chunkCount++) {
+            chunks[chunkCount] = new Object[chunkMask + 1];
+        }
+    }
+
+    /**
+     * Shifts the elements in the range [idx, size) one position to the right,
+     * carrying the last element of every chunk into the next one.
+     */
+    private void shiftRight(int idx) {
+        int firstChunk = idx >>> chunkShift;
+        int lastChunk = size >>> chunkShift;
+        for (int c = lastChunk; c > firstChunk; c--) {
+            Object[] chunk = chunks[c];
+            int count = c == lastChunk ? size & chunkMask : chunkMask;
+            System.arraycopy(chunk, 0, chunk, 1, count);
+            chunk[0] = chunks[c - 1][chunkMask];
+        }
+        Object[] chunk = chunks[firstChunk];
+        int offset = idx & chunkMask;
+        int end = firstChunk == lastChunk ? size & chunkMask : chunkMask;
+        System.arraycopy(chunk, offset, chunk, offset + 1, end - offset);
+    }
+
+    /**
+     * Shifts the elements in the range (idx, size) one position to the left over the element at idx,
+     * carrying the first element of every chunk into the previous one, and clears the last slot.
+     */
+    private void shiftLeft(int idx) {
+        int firstChunk = idx >>> chunkShift;
+        int lastChunk = (size - 1) >>> chunkShift;
+        Object[] chunk = chunks[firstChunk];
+        int offset = idx & chunkMask;
+        int end = firstChunk == lastChunk ? (size - 1) & chunkMask : chunkMask;
+        System.arraycopy(chunk, offset + 1, chunk, offset, end - offset);
+        for (int c = firstChunk + 1; c <= lastChunk; c++) {
+            Object[] next = chunks[c];
+            chunks[c - 1][chunkMask] = next[0];
+            int count = c == lastChunk ? (size - 1) & chunkMask : chunkMask;
+            System.arraycopy(next, 1, next, 0, count);
+        }
+        chunks[lastChunk][(size - 1) & chunkMask] = null;
+    }
+
+    /**
+     * Clears the slots in the range [from, size) and sets the size to from.
+     */
+    private void truncate(int from) {
+        for (int i = from; i < size; ) {
+            Object[] chunk = chunks[i >>> chunkShift];
+            int offset = i & chunkMask;
+            int end = Math.min(chunkMask + 1, offset + size - i);
+            Arrays.fill(chunk, offset, end, null);
+            i += end - offset;
+        }
+        size = from;
+        modCount++;
+    }
+
+    /**
+     * Inserts the specified element at the specified index in the list,
+     * shifting the following elements chunk by chunk.
+     *
+     * @param idx the index at which the element is to be inserted.
+     * @param elm the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     */
+    @Override
+    public void add(int idx, T elm) {
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        ensureCapacityInternal(size + 1);
+        shiftRight(idx);
+        chunks[idx >>> chunkShift][idx & chunkMask] = elm;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Appends the specified element to the end of the list in O(1), allocating a new chunk when the last one is full.
+     *
+     * @param elm the element to be appended to the list.
+     */
+    @Override
+    public void add(T elm) {
+        if ((size & chunkMask) == 0) {
+            ensureCapacityInternal(size + 1);
+        }
+        chunks[size >>> chunkShift][size & chunkMask] = elm;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Appends all elements of the specified array to the end of the list, copying them chunk by chunk.
+     *
+     * @param elms the elements to be appended to the list.
+     */
+    @Override
+    public void addAll(T[] elms) {
+        ensureCapacityInternal(size + elms.length);
+        int copied = 0;
+        while (copied < elms.length) {
+            int offset = size & chunkMask;
+            int count = Math.min(chunkMask + 1 - offset, elms.length - copied);
+            System.arraycopy(elms, copied, chunks[size >>> chunkShift], offset, count);
+            copied += count;
+            size += count;
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        return (T) chunks[idx >>> chunkShift][idx & chunkMask];
+    }
+
+    /**
+     * Replaces the element at the specified index in the list.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T set(int idx, T elm) {
+        T old = get(idx);
+        chunks[idx >>> chunkShift][idx & chunkMask] = elm;
+        return old;
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty. The allocated chunks are kept and reused.
+     */
+    @Override
+    public void clean() {
+        truncate(0);
+    }
+
+    /**
+     * Releases the chunks that are not needed to hold the current elements.
+     */
+    public void trimToSize() {
+        int needed = (size + chunkMask) >>> chunkShift;
+        Arrays.fill(chunks, needed, chunkCount, null);
+        chunkCount = needed;
+    }
+
+    /**
+     * Returns the number of elements the list can hold without allocating another chunk.
+     *
+     * @return the capacity of the allocated chunks.
+     */
+    public long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * Removes the element at the specified index in the list,
+     * shifting the following elements chunk by chunk.
+     *
+     * @param idx the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T remove(int idx) {
+        T removed = get(idx);
+        shiftLeft(idx);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list, if it is present.
+     *
+     * @param elm the element to be removed from the list.
+     * @return true if the list contained the specified element.
+     */
+    @Override
+    public boolean remove(T elm) {
+        int idx = indexOf(elm);
+        if (idx < 0) {
+            return false;
+        }
+        remove(idx);
+        return true;
+    }
+
+    /**
+     * Removes the elements in the range [fromIdx, toIdx) from the list, moving the tail once.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index after the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        int write = fromIdx;
+        for (int read = toIdx; read < size; read++, write++) {
+            chunks[write >>> chunkShift][write & chunkMask] = at(chunks, read);
+        }
+        truncate(write);
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the given predicate,
+     * compacting the remaining elements in a single pass.
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int end = size;
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < end; read++) {
+                Object elm = at(chunks, read);
+                if (!filter.test((T) elm)) {
+                    chunks[write >>> chunkShift][write & chunkMask] = elm;
+                    write++;
+                }
+            }
+        } finally {
+            // Keeps the unvisited tail if the predicate throws.
+            for (; read < end; read++, write++) {
+                chunks[write >>> chunkShift][write & chunkMask] = at(chunks, read);
+            }
+            truncate(write);
+        }
+        return write != end;
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator.
+     * Every chunk is sorted on its own, then the sorted runs are merged bottom-up into a second
+     * set of chunks, so the sort never allocates an array of the size of the list. The sort is stable.
+     *
+     * @param comparator the comparator used to compare elements.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<T> comparator) {
+        modCount++;
+        int chunkCapacity = chunkMask + 1;
+        for (int i = 0; i < size; i += chunkCapacity) {
+            TimSort.sort(chunks[i >>> chunkShift], 0, Math.min(chunkCapacity, size - i), comparator);
+        }
+        if (size <= chunkCapacity) {
+            return;
+        }
+        Object[][] src = chunks;
+        Object[][] dst = new Object[chunks.length][];
+        for (int c = 0; c < chunkCount; c++) {
+            dst[c] = new Object[chunkCapacity];
+        }
+        for (int width = chunkCapacity; width < size; width <<= 1) {
+            for (int lo = 0; lo < size; lo += width << 1) {
+                int mid = Math.min(lo + width, size);
+                int hi = Math.min(mid + width, size);
+                int i = lo;
+                int j = mid;
+                for (int k = lo; k < hi; k++) {
+                    Object elm;
+                    if (j >= hi || i < mid && comparator.compare((T) at(src, i), (T) at(src, j)) <= 0) {
+                        elm = at(src, i++);
+                    } else {
+                        elm = at(src, j++);
+                    }
+                    dst[k >>> chunkShift][k & chunkMask] = elm;
+                }
+            }
+            Object[][] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        chunks = src;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list contains the specified element.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        int chunkCapacity = chunkMask + 1;
+        for (int base = 0; base < size; base += chunkCapacity) {
+            Object[] chunk = chunks[base >>> chunkShift];
+            int end = Math.min(chunkCapacity, size - base);
+            for (int i = 0; i < end; i++) {
+                if (Objects.equals(elm, chunk[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(elm, at(chunks, i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing all of the elements in the list in proper sequence.
+     *
+     * @return a new array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        Object[] array = new Object[size];
+        int chunkCapacity = chunkMask + 1;
+        for (int base = 0; base < size; base += chunkCapacity) {
+            System.arraycopy(chunks[base >>> chunkShift], 0, array, base, Math.min(chunkCapacity, size - base));
+        }
+        return (T[]) array;
+    }
+
+    /**
+     * @return an iterator over the elements in the list in proper sequence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int currentIdx;  // Index of the current element in the iteration.
+            private Object[] chunk;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return currentIdx < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the iteration.");
+                }
+                if ((currentIdx & chunkMask) == 0) {
+                    chunk = chunks[currentIdx >>> chunkShift];
+                }
+                return (T) chunk[currentIdx++ & chunkMask];
+            }
+        };
+    }
+
+    /**
+     * Returns a list iterator over the elements in the list, working through its index-based methods.
+     *
+     * @return a list iterator over the elements in the list in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new IndexListIterator<>(this, () -> modCount);
+    }
+
+    /**
+     * Returns a string representation of the SegmentedList.
+     *
+     * @return a string representation of the SegmentedList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
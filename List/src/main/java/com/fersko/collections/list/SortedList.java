@@ -0,0 +1,684 @@
+package com.fersko.collections.list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of the MyList interface that keeps its elements sorted by a comparator,
+ * in an array that is dynamically resized when needed.
+ *
+ * <p>Elements are inserted at their binary-searched position after the equal ones, so the order
+ * is stable. Lookups are binary searches too: contains, indexOf, lastIndexOf and remove(T) find
+ * an element in O(log n), treating elements as equal when the comparator returns 0.
+ * {@link #subList(Object, Object)} returns the elements between two keys, bulk additions and
+ * {@link #merge(SortedList, SortedList)} merge sorted runs in linear time.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class SortedList<T> implements MyList<T> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    private final Comparator<? super T> comparator;
+
+    private Object[] data;
+
+    private int size;
+
+    /**
+     * Number of structural modifications, checked by the iterator to detect concurrent modification.
+     */
+    private int modCount;
+
+    /**
+     * Constructs an empty SortedList ordered by the specified comparator, with an initial capacity of 10.
+     *
+     * @param comparator the comparator to determine the order of the elements.
+     */
+    public SortedList(Comparator<? super T> comparator) {
+        this(comparator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty SortedList ordered by the specified comparator, with the specified initial capacity.
+     *
+     * @param comparator   the comparator to determine the order of the elements.
+     * @param sizeCapacity the initial capacity of the list.
+     * @throws IllegalArgumentException if the specified initial capacity is non-positive.
+     */
+    public SortedList(Comparator<? super T> comparator, int sizeCapacity) {
+        if (sizeCapacity <= 0) {
+            throw new IllegalArgumentException("Error size capacity");
+        }
+        this.comparator = Objects.requireNonNull(comparator);
+        data = new Object[sizeCapacity];
+    }
+
+    /**
+     * Returns a new list with the elements of both specified lists, merged in one linear pass.
+     * Equal elements of the first list come before those of the second one.
+     *
+     * @param first  the first list to be merged.
+     * @param second the second list to be merged.
+     * @param <T>    the type of elements stored in the lists.
+     * @return a new list ordered by the comparator of the first list.
+     * @throws IllegalArgumentException if the lists are ordered by different comparators.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SortedList<T> merge(SortedList<T> first, SortedList<T> second) {
+        if (!first.comparator.equals(second.comparator)) {
+            throw new IllegalArgumentException("Error comparators differ");
+        }
+        SortedList<T> merged = new SortedList<>(first.comparator, Math.max(first.size + second.size, 1));
+        Object[] a = first.data;
+        Object[] b = second.data;
+        Object[] out = merged.data;
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < first.size && j < second.size) {
+            out[k++] = first.comparator.compare((T) b[j], (T) a[i]) < 0 ? b[j++] : a[i++];
+        }
+        System.arraycopy(a, i, out, k, first.size - i);
+        k += first.size - i;
+        System.arraycopy(b, j, out, k, second.size - j);
+        merged.size = first.size + second.size;
+        return merged;
+    }
+
+    /**
+     * Returns the comparator the elements of the list are ordered by.
+     *
+     * @return the comparator of the list.
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the index of the first element not less than the specified key.
+     *
+     * @param key the key to search for.
+     * @return the index of the first element not less than the key, or size if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    private int lowerBound(T key) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare((T) data[mid], key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the index of the first element greater than the specified key.
+     *
+     * @param key the key to search for.
+     * @return the index of the first element greater than the key, or size if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    private int upperBound(T key) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare((T) data[mid], key) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Grows the internal array, if needed, so that it can hold at least the specified number of elements.
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, minCapacity));
+        }
+    }
+
+    /**
+     * Inserts the element at the specified index, shifting the following elements.
+     *
+     * @param idx the index at which the element is to be inserted.
+     * @param elm the element to be inserted.
+     */
+    private void insertAt(int idx, T elm) {
+        modCount++;
+        ensureCapacityInternal(size + 1);
+        System.arraycopy(data, idx, data, idx + 1, size - idx);
+        data[idx] = elm;
+        size++;
+    }
+
+    /**
+     * Removes the elements in range [fromIdx, toIdx) and shifts the tail once.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index of the last element to be removed, exclusive.
+     */
+    private void shiftTailTo(int fromIdx, int toIdx) {
+        modCount++;
+        System.arraycopy(data, toIdx, data, fromIdx, size - toIdx);
+        int newSize = size - (toIdx - fromIdx);
+        Arrays.fill(data, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Appends the specified elements and merges them into place. The elements in [0, sortedFrom)
+     * of the specified array are skipped, the rest is sorted first unless it is known to be sorted.
+     *
+     * @param elms   the array holding the elements to be added.
+     * @param count  the number of elements to be added.
+     * @param sorted true if the elements are already ordered by the comparator of the list.
+     */
+    private void mergeIn(Object[] elms, int count, boolean sorted) {
+        modCount++;
+        ensureCapacityInternal(size + count);
+        System.arraycopy(elms, 0, data, size, count);
+        if (!sorted) {
+            TimSort.sort(data, size, size + count, comparator);
+        }
+        TimSort.merge(data, 0, size, size + count, comparator);
+        size += count;
+    }
+
+    /**
+     * Checks that the specified element fits between the elements at the specified indexes.
+     *
+     * @param before the index of the element that must not be greater, or -1 if there is none.
+     * @param elm    the element to be checked.
+     * @param after  the index of the element that must not be less, or size if there is none.
+     * @throws IllegalArgumentException if the element would break the order of the list.
+     */
+    @SuppressWarnings("unchecked")
+    private void checkOrder(int before, T elm, int after) {
+        if (before >= 0 && comparator.compare((T) data[before], elm) > 0
+                || after < size && comparator.compare(elm, (T) data[after]) > 0) {
+            throw new IllegalArgumentException("Error element out of order");
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified index, if the element belongs there.
+     *
+     * @param idx the index at which the specified element is to be inserted.
+     * @param elm the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     * @throws IllegalArgumentException  if the element at that index would break the order of the list.
+     */
+    @Override
+    public void add(int idx, T elm) {
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        checkOrder(idx - 1, elm, idx);
+        insertAt(idx, elm);
+    }
+
+    /**
+     * Inserts the specified element at its binary-searched position, after the elements equal to it.
+     *
+     * @param elm the element to be added to the list.
+     */
+    @Override
+    public void add(T elm) {
+        insertAt(upperBound(elm), elm);
+    }
+
+    /**
+     * Adds all elements of the specified array, sorting them and merging them into the list in linear time.
+     *
+     * @param elms the elements to be added to the list.
+     */
+    @Override
+    public void addAll(T[] elms) {
+        mergeIn(elms, elms.length, false);
+    }
+
+    /**
+     * Adds all elements of the specified Iterable, sorting them and merging them into the list in linear time.
+     *
+     * @param elms the elements to be added to the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(Iterable<? extends T> elms) {
+        if (elms instanceof MyList) {
+            addAll((MyList<? extends T>) elms);
+        } else {
+            MyArrayList<T> buffer = new MyArrayList<>();
+            buffer.addAll(elms);
+            mergeIn(buffer.toArray(), buffer.size(), false);
+        }
+    }
+
+    /**
+     * Adds all elements of the specified list, merging them into this list in linear time.
+     * A SortedList with the same comparator is merged without sorting it first.
+     *
+     * @param elms the list whose elements are to be added to this list.
+     */
+    @Override
+    public void addAll(MyList<? extends T> elms) {
+        if (elms instanceof SortedList && comparator.equals(((SortedList<?>) elms).comparator)) {
+            SortedList<?> other = (SortedList<?>) elms;
+            mergeIn(other.data, other.size, true);
+        } else {
+            mergeIn(elms.toArray(), elms.size(), false);
+        }
+    }
+
+    /**
+     * Returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        return (T) data[idx];
+    }
+
+    /**
+     * Replaces the element at the specified index, if the new element belongs there.
+     * The order is checked against both neighbours before the list is changed.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     * @throws IllegalArgumentException  if the element at that index would break the order of the list.
+     */
+    @Override
+    public T set(int idx, T elm) {
+        T old = get(idx);
+        checkOrder(idx - 1, elm, idx + 1);
+        data[idx] = elm;
+        return old;
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty. The backing array is kept and reused.
+     */
+    @Override
+    public void clean() {
+        Arrays.fill(data, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index in the list.
+     *
+     * @param idx the index of the element to be removed.
+     * @return the element that was removed from the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        T removedElement = (T) data[idx];
+        shiftTailTo(idx, idx + 1);
+        return removedElement;
+    }
+
+    /**
+     * Removes the first element equal to the specified one, found by binary search.
+     *
+     * @param elm the element to be removed from the list, if present.
+     * @return true if the list contained the specified element.
+     */
+    @Override
+    public boolean remove(T elm) {
+        int idx = indexOf(elm);
+        if (idx >= 0) {
+            shiftTailTo(idx, idx + 1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all elements with index in range [fromIdx, toIdx), shifting the tail once.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index of the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        shiftTailTo(fromIdx, toIdx);
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the specified predicate,
+     * compacting the remaining elements in a single pass that keeps their order.
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Object[] es = data;
+        int end = size;
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < end; read++) {
+                Object elm = es[read];
+                if (!filter.test((T) elm)) {
+                    es[write++] = elm;
+                }
+            }
+        } finally {
+            // Keeps the unvisited tail if the predicate throws.
+            if (read < end) {
+                System.arraycopy(es, read, es, write, end - read);
+                write += end - read;
+            }
+            Arrays.fill(es, write, end, null);
+            size = write;
+            if (write != end) {
+                modCount++;
+            }
+        }
+        return write != end;
+    }
+
+    /**
+     * Does nothing if the specified comparator is the one the list is ordered by; the list is always sorted by it.
+     *
+     * @param comparator the comparator to determine the order of the elements.
+     * @throws UnsupportedOperationException if the comparator differs from the comparator of the list.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        if (!this.comparator.equals(comparator)) {
+            throw new UnsupportedOperationException("List is sorted by its own comparator!");
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks by binary search if the list contains an element equal to the specified one.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first element equal to the specified one, found by binary search.
+     *
+     * @param elm the element to search for.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(T elm) {
+        int idx = lowerBound(elm);
+        return idx < size && comparator.compare((T) data[idx], elm) == 0 ? idx : -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to the specified one, found by binary search.
+     *
+     * @param elm the element to search for.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int lastIndexOf(T elm) {
+        int idx = upperBound(elm) - 1;
+        return idx >= 0 && comparator.compare((T) data[idx], elm) == 0 ? idx : -1;
+    }
+
+    /**
+     * Returns a new list with the elements not less than fromKey and less than toKey,
+     * located by two binary searches and copied in one block.
+     *
+     * @param fromKey the low key of the range, inclusive.
+     * @param toKey   the high key of the range, exclusive.
+     * @return a new list ordered by the same comparator with the elements in range [fromKey, toKey).
+     * @throws IllegalArgumentException if fromKey is greater than toKey.
+     */
+    public SortedList<T> subList(T fromKey, T toKey) {
+        if (comparator.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("Error key range");
+        }
+        int fromIdx = lowerBound(fromKey);
+        int toIdx = lowerBound(toKey);
+        SortedList<T> range = new SortedList<>(comparator, Math.max(toIdx - fromIdx, 1));
+        System.arraycopy(data, fromIdx, range.data, 0, toIdx - fromIdx);
+        range.size = toIdx - fromIdx;
+        return range;
+    }
+
+    /**
+     * Returns an array containing all of the elements in the list in sorted order.
+     *
+     * @return an array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        return (T[]) Arrays.copyOf(data, size);
+    }
+
+    /**
+     * Compares this SortedList with the specified object for equality.
+     *
+     * @param o the object to be compared for equality with this SortedList.
+     * @return true if the specified object is a SortedList with equal elements in the same order.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!( o instanceof SortedList ))
+            return false;
+        SortedList<?> that = (SortedList<?>) o;
+        return Arrays.equals(data, 0, size, that.data, 0, that.size);
+    }
+
+    /**
+     * Returns a hash code value for this SortedList.
+     *
+     * @return a hash code value for this SortedList.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Objects.hashCode(data[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a string representation of the SortedList.
+     *
+     * @return a string representation of the SortedList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * @return an iterator over the elements in this SortedList in sorted order.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int currentIdx;  // Index of the current element in the iteration.
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return currentIdx < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the iteration.");
+                }
+                return (T) data[currentIdx++];
+            }
+        };
+    }
+
+    /**
+     * Returns a list iterator over the elements in this SortedList in sorted order.
+     * The iterator can remove elements and replace them with elements that keep the order,
+     * but not insert them, since every element has its own position in the list.
+     *
+     * @return a list iterator over the elements in this SortedList in sorted order.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new ListItr();
+    }
+
+    /**
+     * List iterator working on the backing array.
+     */
+    private class ListItr implements ListIterator<T> {
+        private int cursor;  // Index of the element returned by the next call to next().
+        private int lastRet = -1;  // Index of the element returned last, or -1 if there is none.
+        private int expectedModCount = modCount;
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the iteration.");
+            }
+            lastRet = cursor++;
+            return (T) data[lastRet];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("No more elements in the iteration.");
+            }
+            lastRet = --cursor;
+            return (T) data[lastRet];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            shiftTailTo(lastRet, lastRet + 1);
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Replaces the element returned last, if the new element keeps the order of the list.
+         *
+         * @throws IllegalArgumentException if the element would break the order of the list.
+         */
+        @Override
+        public void set(T elm) {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            SortedList.this.set(lastRet, elm);
+        }
+
+        /**
+         * @throws UnsupportedOperationException always, elements are placed by the comparator.
+         */
+        @Override
+        public void add(T elm) {
+            throw new UnsupportedOperationException("List is sorted by its own comparator!");
+        }
+    }
+
+}
@@ -0,0 +1,631 @@
+package com.fersko.collections.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe implementation of the MyList interface for multi-threaded producers.
+ *
+ * <p>Elements live in fixed-size chunks that are never copied on growth. Access is guarded
+ * by a set of StampedLock stripes, one picked per thread:
+ * <ul>
+ *     <li>appends take the read lock of their own stripe only, claim a slot with an atomic
+ *     counter and publish it without waiting: whichever producer fills a slot advances the
+ *     published prefix over every filled slot after it, so concurrent producers never block
+ *     each other;</li>
+ *     <li>get, contains, indexOf and size read optimistically and fall back to the read lock
+ *     only when a structural change overlapped the read;</li>
+ *     <li>structural changes (insert or remove at an index, sort, bulk removal) take the write
+ *     lock of every stripe.</li>
+ * </ul>
+ * The iterator works on a snapshot taken when it is created.
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class StripedList<T> implements MyList<T> {
+
+    private static final int CHUNK_SHIFT = 12;
+
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Marks slots that are claimed or beyond the size but not yet filled.
+     */
+    private static final Object EMPTY = new Object();
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    private final StampedLock[] stripes;
+
+    private final Object growLock = new Object();
+
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /**
+     * Number of published elements; every slot below it is filled.
+     */
+    private final AtomicInteger committed = new AtomicInteger();
+
+    private volatile Object[][] chunks = new Object[8][];
+
+    /**
+     * Number of changes that move elements, made under the write lock of every stripe and checked by
+     * the list iterator to detect concurrent modification. Appends leave the elements in place and do not count.
+     */
+    private volatile int modCount;
+
+    /**
+     * Constructs an empty StripedList with one lock stripe per available processor.
+     */
+    public StripedList() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an empty StripedList with the specified number of lock stripes,
+     * rounded up to a power of two.
+     *
+     * @param stripeCount the number of lock stripes.
+     * @throws IllegalArgumentException if the stripe count is non-positive.
+     */
+    public StripedList(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Error stripe count");
+        }
+        int n = Integer.highestOneBit(Math.min(stripeCount, 1 << 10) * 2 - 1);
+        stripes = new StampedLock[n];
+        for (int i = 0; i < n; i++) {
+            stripes[i] = new StampedLock();
+        }
+    }
+
+    /**
+     * @return the lock stripe of the current thread.
+     */
+    private StampedLock stripe() {
+        return stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+    }
+
+    /**
+     * Acquires the write lock of every stripe, in stripe order.
+     *
+     * @return the stamps of the acquired locks.
+     */
+    private long[] lockAll() {
+        long[] stamps = new long[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            stamps[i] = stripes[i].writeLock();
+        }
+        return stamps;
+    }
+
+    private void unlockAll(long[] stamps) {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].unlockWrite(stamps[i]);
+        }
+    }
+
+    /**
+     * Allocates chunks, if needed, so that the slot with the specified index exists.
+     *
+     * @param idx the index of the slot.
+     */
+    private void ensureSlot(int idx) {
+        int chunkIdx = idx >>> CHUNK_SHIFT;
+        Object[][] cs = chunks;
+        if (chunkIdx < cs.length && cs[chunkIdx] != null) {
+            return;
+        }
+        synchronized (growLock) {
+            cs = chunks;
+            if (chunkIdx >= cs.length) {
+                cs = Arrays.copyOf(cs, Math.max(cs.length * 2, chunkIdx + 1));
+            }
+            for (int i = chunkIdx; i >= 0 && cs[i] == null; i--) {
+                cs[i] = newChunk();
+            }
+            chunks = cs;
+        }
+    }
+
+    private static Object[] newChunk() {
+        Object[] chunk = new Object[CHUNK_SIZE];
+        Arrays.fill(chunk, EMPTY);
+        return chunk;
+    }
+
+    private Object slot(Object[][] cs, int idx) {
+        return cs[idx >>> CHUNK_SHIFT][idx & CHUNK_MASK];
+    }
+
+    private void setSlot(int idx, Object elm) {
+        chunks[idx >>> CHUNK_SHIFT][idx & CHUNK_MASK] = elm;
+    }
+
+    /**
+     * Fills a claimed slot and advances the published prefix over every filled slot.
+     * The producer filling the last missing slot of a run publishes the whole run,
+     * so no producer waits for another one.
+     *
+     * @param idx the index of the claimed slot.
+     * @param elm the element to be stored in the slot.
+     */
+    private void fill(int idx, Object elm) {
+        SLOT.setVolatile(chunks[idx >>> CHUNK_SHIFT], idx & CHUNK_MASK, elm);
+        int c = committed.get();
+        while (c < reserved.get()) {
+            Object[][] cs = chunks;
+            int chunkIdx = c >>> CHUNK_SHIFT;
+            // A slot whose chunk is not allocated yet is published by its own producer later.
+            if (chunkIdx >= cs.length || cs[chunkIdx] == null
+                    || SLOT.getVolatile(cs[chunkIdx], c & CHUNK_MASK) == EMPTY) {
+                return;
+            }
+            committed.compareAndSet(c, c + 1);
+            c = committed.get();
+        }
+    }
+
+    /**
+     * Sets the size after a structural change. Must be called under the write lock of every stripe.
+     *
+     * @param newSize the new number of elements.
+     */
+    private void resetSize(int newSize) {
+        reserved.set(newSize);
+        committed.set(newSize);
+    }
+
+    /**
+     * Appends the specified element to the end of the list. Concurrent appends from
+     * different threads proceed in parallel.
+     *
+     * @param elm the element to be appended to the list.
+     */
+    @Override
+    public void add(T elm) {
+        StampedLock lock = stripe();
+        long stamp = lock.readLock();
+        try {
+            int idx = reserved.getAndIncrement();
+            ensureSlot(idx);
+            fill(idx, elm);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Appends all elements of the specified array to the end of the list as one contiguous block.
+     *
+     * @param elms the elements to be appended to the list.
+     */
+    @Override
+    public void addAll(T[] elms) {
+        if (elms.length == 0) {
+            return;
+        }
+        StampedLock lock = stripe();
+        long stamp = lock.readLock();
+        try {
+            int from = reserved.getAndAdd(elms.length);
+            ensureSlot(from + elms.length - 1);
+            for (int i = elms.length - 1; i > 0; i--) {
+                setSlot(from + i, elms[i]);
+            }
+            fill(from, elms[0]);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Inserts an element at the specified index in the list.
+     *
+     * @param idx the index at which the specified element is to be inserted.
+     * @param elm the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     */
+    @Override
+    public void add(int idx, T elm) {
+        long[] stamps = lockAll();
+        try {
+            int size = committed.get();
+            if (idx < 0 || idx > size) {
+                throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+            }
+            ensureSlot(size);
+            Object[][] cs = chunks;
+            for (int i = size; i > idx; i--) {
+                setSlot(i, slot(cs, i - 1));
+            }
+            setSlot(idx, elm);
+            resetSize(size + 1);
+            modCount++;
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int idx) {
+        StampedLock lock = stripe();
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int size = committed.get();
+            Object[][] cs = chunks;
+            Object elm = null;
+            boolean inRange = idx >= 0 && idx < size;
+            if (inRange && (idx >>> CHUNK_SHIFT) < cs.length && cs[idx >>> CHUNK_SHIFT] != null) {
+                elm = slot(cs, idx);
+            }
+            if (lock.validate(stamp)) {
+                if (!inRange) {
+                    throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+                }
+                return (T) elm;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            if (idx < 0 || idx >= committed.get()) {
+                throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+            }
+            return (T) slot(chunks, idx);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified index in the list. Like an append, it holds only
+     * the read lock of its own stripe, so it never waits for other producers.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int idx, T elm) {
+        StampedLock lock = stripe();
+        long stamp = lock.readLock();
+        try {
+            if (idx < 0 || idx >= committed.get()) {
+                throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+            }
+            Object[] chunk = chunks[idx >>> CHUNK_SHIFT];
+            return (T) SLOT.getAndSet(chunk, idx & CHUNK_MASK, elm);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty.
+     */
+    @Override
+    public void clean() {
+        long[] stamps = lockAll();
+        try {
+            chunks = new Object[8][];
+            resetSize(0);
+            modCount++;
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Removes the element at the specified index in the list.
+     *
+     * @param idx the index of the element to be removed.
+     * @return the element that was removed from the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int idx) {
+        long[] stamps = lockAll();
+        try {
+            int size = committed.get();
+            if (idx < 0 || idx >= size) {
+                throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+            }
+            Object[][] cs = chunks;
+            T removed = (T) slot(cs, idx);
+            for (int i = idx + 1; i < size; i++) {
+                setSlot(i - 1, slot(cs, i));
+            }
+            setSlot(size - 1, EMPTY);
+            resetSize(size - 1);
+            modCount++;
+            return removed;
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list, if it is present.
+     *
+     * @param elm the element to be removed from the list, if present.
+     * @return true if the list contained the specified element.
+     */
+    @Override
+    public boolean remove(T elm) {
+        long[] stamps = lockAll();
+        try {
+            int idx = find(chunks, committed.get(), elm);
+            if (idx < 0) {
+                return false;
+            }
+            int size = committed.get();
+            Object[][] cs = chunks;
+            for (int i = idx + 1; i < size; i++) {
+                setSlot(i - 1, slot(cs, i));
+            }
+            setSlot(size - 1, EMPTY);
+            resetSize(size - 1);
+            modCount++;
+            return true;
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Removes all elements with index in range [fromIdx, toIdx), shifting the tail once.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index of the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        long[] stamps = lockAll();
+        try {
+            int size = committed.get();
+            if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+                throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+            }
+            int removed = toIdx - fromIdx;
+            Object[][] cs = chunks;
+            for (int i = toIdx; i < size; i++) {
+                setSlot(i - removed, slot(cs, i));
+            }
+            for (int i = size - removed; i < size; i++) {
+                setSlot(i, EMPTY);
+            }
+            resetSize(size - removed);
+            modCount++;
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the specified predicate,
+     * compacting the remaining elements in a single pass.
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        long[] stamps = lockAll();
+        try {
+            int size = committed.get();
+            Object[][] cs = chunks;
+            int write = 0;
+            int read = 0;
+            try {
+                for (; read < size; read++) {
+                    Object elm = slot(cs, read);
+                    if (!filter.test((T) elm)) {
+                        setSlot(write++, elm);
+                    }
+                }
+            } finally {
+                // Keeps the unvisited tail if the predicate throws.
+                for (; read < size; read++) {
+                    setSlot(write++, slot(cs, read));
+                }
+                for (int i = write; i < size; i++) {
+                    setSlot(i, EMPTY);
+                }
+                resetSize(write);
+                if (write != size) {
+                    modCount++;
+                }
+            }
+            return write != size;
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator.
+     * The sort is stable.
+     *
+     * @param comparator the comparator to determine the order of the list.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        long[] stamps = lockAll();
+        try {
+            int size = committed.get();
+            Object[] flat = copy(chunks, size);
+            TimSort.sort(flat, 0, size, comparator);
+            for (int i = 0; i < size; i++) {
+                setSlot(i, flat[i]);
+            }
+            modCount++;
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Returns the number of published elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return committed.get();
+    }
+
+    /**
+     * Checks if the list contains the specified element.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        StampedLock lock = stripe();
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                int idx = find(chunks, committed.get(), elm);
+                if (lock.validate(stamp)) {
+                    return idx;
+                }
+            } catch (RuntimeException e) {
+                // Torn read of a structure changed concurrently; retried under the read lock.
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return find(chunks, committed.get(), elm);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        StampedLock lock = stripe();
+        long stamp = lock.readLock();
+        try {
+            Object[][] cs = chunks;
+            for (int i = committed.get() - 1; i >= 0; i--) {
+                if (Objects.equals(elm, slot(cs, i))) {
+                    return i;
+                }
+            }
+            return -1;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private int find(Object[][] cs, int size, Object elm) {
+        for (int c = 0; c << CHUNK_SHIFT < size; c++) {
+            Object[] chunk = cs[c];
+            int end = Math.min(CHUNK_SIZE, size - (c << CHUNK_SHIFT));
+            for (int i = 0; i < end; i++) {
+                if (Objects.equals(elm, chunk[i])) {
+                    return (c << CHUNK_SHIFT) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private Object[] copy(Object[][] cs, int size) {
+        Object[] flat = new Object[size];
+        for (int c = 0; c << CHUNK_SHIFT < size; c++) {
+            int from = c << CHUNK_SHIFT;
+            System.arraycopy(cs[c], 0, flat, from, Math.min(CHUNK_SIZE, size - from));
+        }
+        return flat;
+    }
+
+    /**
+     * Returns a consistent snapshot of the elements in the list in proper sequence.
+     *
+     * @return a new array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        StampedLock lock = stripe();
+        long stamp = lock.readLock();
+        try {
+            return (T[]) copy(chunks, committed.get());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return an iterator over a snapshot of the elements in this StripedList in proper sequence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Arrays.asList(toArray()).iterator();
+    }
+
+    /**
+     * Returns a list iterator working through the index-based methods of the list. Unlike the iterator,
+     * it works on the live list and reports changes that move elements as concurrent modification.
+     *
+     * @return a list iterator over the elements in this StripedList in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new IndexListIterator<>(this, () -> modCount);
+    }
+
+    /**
+     * Returns a string representation of the StripedList.
+     *
+     * @return a string representation of the StripedList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,345 @@
+package com.fersko.collections.list;
+
+import java.util.Comparator;
+
+/**
+ * Stable, adaptive merge sort working directly on an Object[] range.
+ * Already ordered (or strictly descending) runs are detected and merged as they are,
+ * short runs are extended with binary insertion sort, and pending runs are merged
+ * following the TimSort stack invariants so that the total work stays O(n log n).
+ *
+ * @param <T> the type of elements being sorted.
+ */
+final class TimSort<T> {
+
+    /**
+     * Ranges shorter than this are sorted with binary insertion sort only.
+     */
+    private static final int MIN_MERGE = 32;
+
+    private final Object[] a;
+
+    private final Comparator<? super T> comparator;
+
+    private Object[] tmp;
+
+    private final int[] runBase;
+
+    private final int[] runLen;
+
+    private int stackSize;
+
+    /**
+     * Creates the sort state for the specified array.
+     *
+     * @param a          the array being sorted.
+     * @param comparator the comparator to determine the order of the elements.
+     * @param len        the length of the range being sorted.
+     */
+    private TimSort(Object[] a, Comparator<? super T> comparator, int len) {
+        this.a = a;
+        this.comparator = comparator;
+        this.tmp = new Object[Math.min(256, len >>> 1)];
+        int stackLen = len < 120 ? 5 : len < 1542 ? 10 : len < 119151 ? 24 : 49;
+        runBase = new int[stackLen];
+        runLen = new int[stackLen];
+    }
+
+    /**
+     * Sorts the range [lo, hi) of the specified array.
+     *
+     * @param a          the array to be sorted.
+     * @param lo         the index of the first element, inclusive, to be sorted.
+     * @param hi         the index of the last element, exclusive, to be sorted.
+     * @param comparator the comparator to determine the order of the elements.
+     * @param <T>        the type of elements being sorted.
+     */
+    static <T> void sort(Object[] a, int lo, int hi, Comparator<? super T> comparator) {
+        int remaining = hi - lo;
+        if (remaining < 2) {
+            return;
+        }
+
+        if (remaining < MIN_MERGE) {
+            int initRunLen = countRunAndMakeAscending(a, lo, hi, comparator);
+            binaryInsertionSort(a, lo, hi, lo + initRunLen, comparator);
+            return;
+        }
+
+        TimSort<T> ts = new TimSort<>(a, comparator, remaining);
+        int minRun = minRunLength(remaining);
+        do {
+            int runLen = countRunAndMakeAscending(a, lo, hi, comparator);
+            if (runLen < minRun) {
+                int force = Math.min(remaining, minRun);
+                binaryInsertionSort(a, lo, lo + force, lo + runLen, comparator);
+                runLen = force;
+            }
+            ts.pushRun(lo, runLen);
+            ts.mergeCollapse();
+            lo += runLen;
+            remaining -= runLen;
+        } while (remaining != 0);
+
+        ts.mergeForceCollapse();
+    }
+
+    /**
+     * Merges the two adjacent sorted ranges [lo, mid) and [mid, hi) of the specified array.
+     *
+     * @param a          the array holding both ranges.
+     * @param lo         the start of the first range.
+     * @param mid        the end of the first range and the start of the second one.
+     * @param hi         the end of the second range.
+     * @param comparator the comparator the ranges are sorted by.
+     * @param <T>        the type of elements being merged.
+     */
+    static <T> void merge(Object[] a, int lo, int mid, int hi, Comparator<? super T> comparator) {
+        if (lo >= mid || mid >= hi) {
+            return;
+        }
+        TimSort<T> ts = new TimSort<>(a, comparator, hi - lo);
+        ts.pushRun(lo, mid - lo);
+        ts.pushRun(mid, hi - mid);
+        ts.mergeAt(0);
+    }
+
+    /**
+     * Sorts [lo, hi) with binary insertion sort, assuming [lo, start) is already sorted.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void binaryInsertionSort(Object[] a, int lo, int hi, int start,
+                                                Comparator<? super T> comparator) {
+        if (start == lo) {
+            start++;
+        }
+        for (; start < hi; start++) {
+            T pivot = (T) a[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, (T) a[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(a, left, a, left + 1, start - left);
+            a[left] = pivot;
+        }
+    }
+
+    /**
+     * Returns the length of the run starting at lo, reversing it in place if it is strictly descending.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int countRunAndMakeAscending(Object[] a, int lo, int hi,
+                                                   Comparator<? super T> comparator) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+
+        if (comparator.compare((T) a[runHi++], (T) a[lo]) < 0) {
+            while (runHi < hi && comparator.compare((T) a[runHi], (T) a[runHi - 1]) < 0) {
+                runHi++;
+            }
+            reverseRange(a, lo, runHi);
+        } else {
+            while (runHi < hi && comparator.compare((T) a[runHi], (T) a[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    private static void reverseRange(Object[] a, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            Object t = a[lo];
+            a[lo++] = a[hi];
+            a[hi--] = t;
+        }
+    }
+
+    /**
+     * Returns the minimum run length so that the number of runs is a power of two or slightly less.
+     */
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    private void pushRun(int base, int len) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = len;
+        stackSize++;
+    }
+
+    /**
+     * Merges pending runs until the stack invariants hold again.
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                    || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                if (runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+            } else if (runLen[n] > runLen[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges all pending runs into one.
+     */
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges the runs at stack indices i and i + 1.
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
+
+        // Elements of run1 not greater than the first of run2 are already in place.
+        int k = upperBound((T) a[base2], base1, len1);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // Elements of run2 not less than the last of run1 are already in place.
+        len2 = lowerBound((T) a[base1 + len1 - 1], base2, len2);
+        if (len2 == 0) {
+            return;
+        }
+
+        if (len1 <= len2) {
+            mergeLo(base1, len1, base2, len2);
+        } else {
+            mergeHi(base1, len1, base2, len2);
+        }
+    }
+
+    /**
+     * Returns the number of elements in [base, base + len) that are not greater than key.
+     */
+    @SuppressWarnings("unchecked")
+    private int upperBound(T key, int base, int len) {
+        int left = 0;
+        int right = len;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (comparator.compare(key, (T) a[base + mid]) < 0) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Returns the number of elements in [base, base + len) that are less than key.
+     */
+    @SuppressWarnings("unchecked")
+    private int lowerBound(T key, int base, int len) {
+        int left = 0;
+        int right = len;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (comparator.compare((T) a[base + mid], key) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Merges two adjacent runs front to back, buffering the shorter first run.
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        Object[] buf = ensureCapacity(len1);
+        System.arraycopy(a, base1, buf, 0, len1);
+
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int end2 = base2 + len2;
+        int dest = base1;
+        while (cursor1 < len1 && cursor2 < end2) {
+            if (comparator.compare((T) a[cursor2], (T) buf[cursor1]) < 0) {
+                a[dest++] = a[cursor2++];
+            } else {
+                a[dest++] = buf[cursor1++];
+            }
+        }
+        System.arraycopy(buf, cursor1, a, dest, len1 - cursor1);
+    }
+
+    /**
+     * Merges two adjacent runs back to front, buffering the shorter second run.
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        Object[] buf = ensureCapacity(len2);
+        System.arraycopy(a, base2, buf, 0, len2);
+
+        int cursor1 = base1 + len1 - 1;
+        int cursor2 = len2 - 1;
+        int dest = base2 + len2 - 1;
+        while (cursor1 >= base1 && cursor2 >= 0) {
+            if (comparator.compare((T) buf[cursor2], (T) a[cursor1]) < 0) {
+                a[dest--] = a[cursor1--];
+            } else {
+                a[dest--] = buf[cursor2--];
+            }
+        }
+        System.arraycopy(buf, 0, a, base1, cursor2 + 1);
+    }
+
+    private Object[] ensureCapacity(int minCapacity) {
+        if (tmp.length < minCapacity) {
+            int newSize = Integer.highestOneBit(minCapacity) << 1;
+            if (newSize < 0) {
+                newSize = minCapacity;
+            }
+            tmp = new Object[Math.min(newSize, a.length >>> 1)];
+            if (tmp.length < minCapacity) {
+                tmp = new Object[minCapacity];
+            }
+        }
+        return tmp;
+    }
+}
@@ -0,0 +1,522 @@
+package com.fersko.collections.list;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of the MyList interface as an AVL tree ordered by index.
+ * Every node stores the size of its subtree, so the position of an element is found
+ * by descending from the root, and get, set, add(int, T) and remove(int) cost
+ * O(log n) anywhere in the list. Bulk operations rebuild a perfectly balanced tree in O(n).
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class TreeList<T> implements MyList<T> {
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    /**
+     * Ranges and batches shorter than size / RANGE_REBUILD_RATIO are removed or appended node by node,
+     * longer ones rebuild the tree.
+     */
+    private static final int RANGE_REBUILD_RATIO = 32;
+
+    private static final class Node<T> {
+        T data;
+        Node<T> left;
+        Node<T> right;
+        int height = 1;
+        int size = 1;
+
+        Node(T data) {
+            this.data = data;
+        }
+    }
+
+    private Node<T> root;
+
+    /**
+     * Number of structural modifications, checked by the iterator to detect concurrent modification.
+     */
+    private int modCount;
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node<?> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Restores the AVL invariant at the specified node after one of its subtrees changed.
+     *
+     * @return the new root of the subtree.
+     */
+    private static <T> Node<T> balance(Node<T> node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int idx, T elm) {
+        if (node == null) {
+            return new Node<>(elm);
+        }
+        int leftSize = size(node.left);
+        if (idx <= leftSize) {
+            node.left = insert(node.left, idx, elm);
+        } else {
+            node.right = insert(node.right, idx - leftSize - 1, elm);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Removes the leftmost node of the subtree.
+     *
+     * @return the new root of the subtree.
+     */
+    private static <T> Node<T> removeFirst(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeFirst(node.left);
+        return balance(node);
+    }
+
+    private static <T> Node<T> delete(Node<T> node, int idx) {
+        int leftSize = size(node.left);
+        if (idx < leftSize) {
+            node.left = delete(node.left, idx);
+        } else if (idx > leftSize) {
+            node.right = delete(node.right, idx - leftSize - 1);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeFirst(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Builds a perfectly balanced tree from the elements in the range [from, to) of the array.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Object[] elms, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Node<T> node = new Node<>((T) elms[mid]);
+        node.left = build(elms, from, mid);
+        node.right = build(elms, mid + 1, to);
+        update(node);
+        return node;
+    }
+
+    /**
+     * Returns the node holding the element with the specified index.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    private Node<T> nodeAt(int idx) {
+        if (idx < 0 || idx >= size(root)) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (idx < leftSize) {
+                node = node.left;
+            } else if (idx > leftSize) {
+                idx -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified index in the list in O(log n).
+     *
+     * @param idx the index at which the element is to be inserted.
+     * @param elm the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     */
+    @Override
+    public void add(int idx, T elm) {
+        if (idx < 0 || idx > size(root)) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        root = insert(root, idx, elm);
+        modCount++;
+    }
+
+    /**
+     * Appends the specified element to the end of the list in O(log n).
+     *
+     * @param elm the element to be appended to the list.
+     */
+    @Override
+    public void add(T elm) {
+        root = insert(root, size(root), elm);
+        modCount++;
+    }
+
+    /**
+     * Appends all elements of the specified array to the end of the list.
+     * Short batches are appended node by node in O(m log n), long batches rebuild
+     * a balanced tree over the old and the new elements in O(n + m).
+     *
+     * @param elms the elements to be appended to the list.
+     */
+    @Override
+    public void addAll(T[] elms) {
+        int size = size(root);
+        if ((long) elms.length * RANGE_REBUILD_RATIO < size) {
+            for (T elm : elms) {
+                root = insert(root, size(root), elm);
+            }
+            modCount++;
+            return;
+        }
+        if (elms.length == 0) {
+            return;
+        }
+        Object[] all = Arrays.copyOf(toArray(), size + elms.length);
+        System.arraycopy(elms, 0, all, size, elms.length);
+        root = build(all, 0, all.length);
+        modCount++;
+    }
+
+    /**
+     * Returns the element at the specified index in the list in O(log n).
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T get(int idx) {
+        return nodeAt(idx).data;
+    }
+
+    /**
+     * Replaces the element at the specified index in the list in O(log n).
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T set(int idx, T elm) {
+        Node<T> node = nodeAt(idx);
+        T old = node.data;
+        node.data = elm;
+        return old;
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty.
+     */
+    @Override
+    public void clean() {
+        root = null;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index in the list in O(log n).
+     *
+     * @param idx the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T remove(int idx) {
+        T removed = nodeAt(idx).data;
+        root = delete(root, idx);
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list, if it is present.
+     *
+     * @param elm the element to be removed from the list.
+     * @return true if the list contained the specified element.
+     */
+    @Override
+    public boolean remove(T elm) {
+        int idx = indexOf(elm);
+        if (idx < 0) {
+            return false;
+        }
+        root = delete(root, idx);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the elements in the range [fromIdx, toIdx) from the list.
+     * Short ranges are removed node by node in O(k log n), long ranges rebuild the tree in O(n).
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index after the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        int size = size(root);
+        if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        int count = toIdx - fromIdx;
+        if ((long) count * RANGE_REBUILD_RATIO < size) {
+            for (int i = 0; i < count; i++) {
+                root = delete(root, fromIdx);
+            }
+            modCount++;
+            return;
+        }
+        Object[] elms = toArray();
+        System.arraycopy(elms, toIdx, elms, fromIdx, size - toIdx);
+        root = build(elms, 0, size - count);
+        modCount++;
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the given predicate and rebuilds the tree once.
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int size = size(root);
+        Object[] elms = new Object[size];
+        int kept = 0;
+        for (T elm : this) {
+            if (!filter.test(elm)) {
+                elms[kept++] = elm;
+            }
+        }
+        if (kept == size) {
+            return false;
+        }
+        root = build(elms, 0, kept);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator and rebuilds the tree.
+     * The sort is stable.
+     *
+     * @param comparator the comparator used to compare elements.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        Object[] elms = toArray();
+        TimSort.sort(elms, 0, elms.length, comparator);
+        root = build(elms, 0, elms.length);
+        modCount++;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Checks if the list contains the specified element.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        int idx = 0;
+        for (T data : this) {
+            if (Objects.equals(elm, data)) {
+                return idx;
+            }
+            idx++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        int idx = size(root) - 1;
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        Node<T> node = root;
+        while (node != null || !stack.isEmpty()) {
+            while (node != null) {
+                stack.push(node);
+                node = node.right;
+            }
+            node = stack.pop();
+            if (Objects.equals(elm, node.data)) {
+                return idx;
+            }
+            idx--;
+            node = node.left;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing all of the elements in the list in proper sequence.
+     *
+     * @return a new array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        Object[] array = new Object[size(root)];
+        int i = 0;
+        for (T elm : this) {
+            array[i++] = elm;
+        }
+        return (T[]) array;
+    }
+
+    /**
+     * @return an iterator over the elements in the list in proper sequence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> stack = new ArrayDeque<>();
+            private final int expectedModCount = modCount;
+
+            {
+                pushLeft(root);
+            }
+
+            private void pushLeft(Node<T> node) {
+                for (; node != null; node = node.left) {
+                    stack.push(node);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the iteration.");
+                }
+                Node<T> node = stack.pop();
+                pushLeft(node.right);
+                return node.data;
+            }
+        };
+    }
+
+    /**
+     * Returns a list iterator over the elements in the list, working through its index-based methods.
+     *
+     * @return a list iterator over the elements in the list in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new IndexListIterator<>(this, () -> modCount);
+    }
+
+    /**
+     * Returns a string representation of the TreeList.
+     *
+     * @return a string representation of the TreeList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,742 @@
+package com.fersko.collections.list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of the MyList interface as an unrolled doubly-linked list.
+ * Every node stores a small array of elements, so iteration touches one node per
+ * array instead of one node per element and the per-element overhead is close to
+ * that of MyArrayList. A full node is split in half on insertion, and a node that
+ * drops below half of its capacity is merged with its successor when both fit.
+ *
+ * <p>Index lookups walk the nodes from the nearest of the head, the tail and the node
+ * of the last lookup, so sequential index access runs in amortized O(1). The list iterator
+ * keeps its node, so it inserts and removes elements at its position in O(1).
+ *
+ * @param <T> the type of elements stored in the list.
+ */
+public class UnrolledLinkedList<T> implements MyList<T> {
+
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private static final String OUT_OF_RANGE_ERROR = "Index out of range!";
+
+    private static final class Node {
+        final Object[] items;
+        int count;
+        Node prev;
+        Node next;
+
+        Node(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+
+    private final int nodeCapacity;
+
+    private Node head;
+
+    private Node tail;
+
+    private int size;
+
+    /**
+     * Number of structural modifications, checked by the iterators to detect concurrent modification.
+     */
+    private int modCount;
+
+    /**
+     * Node found by the last lookup, or null after a change that may have unlinked it.
+     */
+    private Node cursor;
+
+    /**
+     * Index of the first element of the cursor node.
+     */
+    private int cursorBase;
+
+    /**
+     * Constructs an empty UnrolledLinkedList with nodes of 64 elements.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty UnrolledLinkedList with the specified number of elements per node.
+     *
+     * @param nodeCapacity the number of elements per node.
+     * @throws IllegalArgumentException if the node capacity is less than 2.
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Error node capacity");
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Moves the cursor to the node holding the element with the specified index,
+     * walking from the nearest of the head, the tail and the current cursor.
+     *
+     * @param idx the index of the element, 0 <= idx < size.
+     */
+    private void locate(int idx) {
+        Node node = head;
+        int base = 0;
+        int distance = idx;
+        int tailBase = size - tail.count;
+        if (Math.abs(tailBase - idx) < distance) {
+            node = tail;
+            base = tailBase;
+            distance = Math.abs(tailBase - idx);
+        }
+        if (cursor != null && Math.abs(cursorBase - idx) < distance) {
+            node = cursor;
+            base = cursorBase;
+        }
+        while (idx >= base + node.count) {
+            base += node.count;
+            node = node.next;
+        }
+        while (idx < base) {
+            node = node.prev;
+            base -= node.count;
+        }
+        cursor = node;
+        cursorBase = base;
+    }
+
+    /**
+     * Links a new empty node after the specified node, or as the head if it is null.
+     *
+     * @return the new node.
+     */
+    private Node linkAfter(Node node) {
+        Node created = new Node(nodeCapacity);
+        created.prev = node;
+        if (node == null) {
+            created.next = head;
+            if (head != null) {
+                head.prev = created;
+            }
+            head = created;
+        } else {
+            created.next = node.next;
+            if (node.next != null) {
+                node.next.prev = created;
+            }
+            node.next = created;
+        }
+        if (created.next == null) {
+            tail = created;
+        }
+        return created;
+    }
+
+    /**
+     * Unlinks the specified node from the list.
+     */
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        if (cursor == node) {
+            cursor = null;
+        }
+    }
+
+    /**
+     * Unlinks the node if it is empty, or merges its successor into it when the node
+     * is less than half full and both fit into one node.
+     */
+    private void compact(Node node) {
+        if (node.count == 0) {
+            unlink(node);
+            return;
+        }
+        Node next = node.next;
+        if (next != null && node.count < nodeCapacity / 2 && node.count + next.count <= nodeCapacity) {
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count += next.count;
+            unlink(next);
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified index in the list.
+     * A full node is split in half before the insertion.
+     *
+     * @param idx the index at which the element is to be inserted.
+     * @param elm the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx > size).
+     */
+    @Override
+    public void add(int idx, T elm) {
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        if (idx == size) {
+            add(elm);
+            return;
+        }
+        locate(idx);
+        Node node = cursor;
+        int offset = idx - cursorBase;
+        if (node.count == nodeCapacity) {
+            int half = nodeCapacity >>> 1;
+            Node right = linkAfter(node);
+            right.count = nodeCapacity - half;
+            System.arraycopy(node.items, half, right.items, 0, right.count);
+            Arrays.fill(node.items, half, nodeCapacity, null);
+            node.count = half;
+            if (offset > half) {
+                node = right;
+                offset -= half;
+                cursor = right;
+                cursorBase += half;
+            }
+        }
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = elm;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Appends the specified element to the end of the list.
+     *
+     * @param elm the element to be appended to the list.
+     */
+    @Override
+    public void add(T elm) {
+        Node node = tail;
+        if (node == null || node.count == nodeCapacity) {
+            node = linkAfter(tail);
+        }
+        node.items[node.count++] = elm;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Appends all elements of the specified array to the end of the list,
+     * copying them into the tail node and new full nodes.
+     *
+     * @param elms the elements to be appended to the list.
+     */
+    @Override
+    public void addAll(T[] elms) {
+        int copied = 0;
+        while (copied < elms.length) {
+            Node node = tail;
+            if (node == null || node.count == nodeCapacity) {
+                node = linkAfter(tail);
+            }
+            int count = Math.min(nodeCapacity - node.count, elms.length - copied);
+            System.arraycopy(elms, copied, node.items, node.count, count);
+            node.count += count;
+            copied += count;
+        }
+        size += elms.length;
+        modCount++;
+    }
+
+    /**
+     * Returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to return.
+     * @return the element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        locate(idx);
+        return (T) cursor.items[idx - cursorBase];
+    }
+
+    /**
+     * Replaces the element at the specified index in the list.
+     *
+     * @param idx the index of the element to replace.
+     * @param elm the element to be stored at the specified index.
+     * @return the element previously at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    public T set(int idx, T elm) {
+        T old = get(idx);
+        cursor.items[idx - cursorBase] = elm;
+        return old;
+    }
+
+    /**
+     * Removes all elements from the list, leaving it empty.
+     */
+    @Override
+    public void clean() {
+        head = null;
+        tail = null;
+        cursor = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index in the list.
+     *
+     * @param idx the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the index is out of range (idx < 0 || idx >= size).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        locate(idx);
+        Node node = cursor;
+        int offset = idx - cursorBase;
+        T removed = (T) node.items[offset];
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.items[--node.count] = null;
+        size--;
+        modCount++;
+        compact(node);
+        return removed;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list, if it is present.
+     *
+     * @param elm the element to be removed from the list.
+     * @return true if the list contained the specified element.
+     */
+    @Override
+    public boolean remove(T elm) {
+        int idx = indexOf(elm);
+        if (idx < 0) {
+            return false;
+        }
+        remove(idx);
+        return true;
+    }
+
+    /**
+     * Removes the elements in the range [fromIdx, toIdx) from the list.
+     * Nodes lying completely inside the range are unlinked without touching their elements.
+     *
+     * @param fromIdx the index of the first element to be removed, inclusive.
+     * @param toIdx   the index after the last element to be removed, exclusive.
+     * @throws IndexOutOfBoundsException if the range is out of bounds (fromIdx < 0 || toIdx > size || fromIdx > toIdx).
+     */
+    @Override
+    public void removeRange(int fromIdx, int toIdx) {
+        if (fromIdx < 0 || toIdx > size || fromIdx > toIdx) {
+            throw new IndexOutOfBoundsException(OUT_OF_RANGE_ERROR);
+        }
+        if (fromIdx == toIdx) {
+            return;
+        }
+        locate(fromIdx);
+        Node node = cursor;
+        int offset = fromIdx - cursorBase;
+        Node first = offset > 0 ? node : node.prev;
+        int remaining = toIdx - fromIdx;
+        while (remaining > 0) {
+            Node next = node.next;
+            int count = Math.min(node.count - offset, remaining);
+            if (count == node.count) {
+                unlink(node);
+            } else {
+                System.arraycopy(node.items, offset + count, node.items, offset, node.count - offset - count);
+                Arrays.fill(node.items, node.count - count, node.count, null);
+                node.count -= count;
+            }
+            remaining -= count;
+            offset = 0;
+            node = next;
+        }
+        size -= toIdx - fromIdx;
+        modCount++;
+        cursor = null;
+        if (first != null) {
+            compact(first);
+        }
+    }
+
+    /**
+     * Removes all elements of the list that satisfy the given predicate,
+     * compacting every node in place and merging underfilled neighbours afterwards.
+     *
+     * @param filter the predicate which returns true for elements to be removed.
+     * @return true if any elements were removed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int oldSize = size;
+        try {
+            for (Node node = head; node != null; node = node.next) {
+                int kept = 0;
+                int i = 0;
+                try {
+                    for (; i < node.count; i++) {
+                        Object elm = node.items[i];
+                        if (!filter.test((T) elm)) {
+                            node.items[kept++] = elm;
+                        }
+                    }
+                } finally {
+                    // Keeps the unvisited elements of the node if the predicate throws.
+                    int rest = node.count - i;
+                    System.arraycopy(node.items, i, node.items, kept, rest);
+                    Arrays.fill(node.items, kept + rest, node.count, null);
+                    size -= node.count - kept - rest;
+                    node.count = kept + rest;
+                }
+            }
+        } finally {
+            if (size != oldSize) {
+                modCount++;
+            }
+            cursor = null;
+            Node node = head;
+            while (node != null) {
+                Node next = node.next;
+                compact(node);
+                if (node.next == next || node.count == 0) {
+                    node = next;
+                }
+            }
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Sorts the elements of the list according to the specified comparator.
+     * The sort is stable and keeps the node structure.
+     *
+     * @param comparator the comparator used to compare elements.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+        modCount++;
+        Object[] elms = toArray();
+        TimSort.sort(elms, 0, elms.length, comparator);
+        int copied = 0;
+        for (Node node = head; node != null; node = node.next) {
+            System.arraycopy(elms, copied, node.items, 0, node.count);
+            copied += node.count;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list contains the specified element.
+     *
+     * @param elm the element to be checked for presence in the list.
+     * @return true if the list contains the specified element.
+     */
+    @Override
+    public boolean contains(T elm) {
+        return indexOf(elm) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int indexOf(T elm) {
+        int base = 0;
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(elm, node.items[i])) {
+                    return base + i;
+                }
+            }
+            base += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list.
+     *
+     * @param elm the element to search for, may be null.
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it.
+     */
+    @Override
+    public int lastIndexOf(T elm) {
+        int base = size;
+        for (Node node = tail; node != null; node = node.prev) {
+            base -= node.count;
+            for (int i = node.count - 1; i >= 0; i--) {
+                if (Objects.equals(elm, node.items[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing all of the elements in the list in proper sequence.
+     *
+     * @return a new array containing all of the elements in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        Object[] array = new Object[size];
+        int copied = 0;
+        for (Node node = head; node != null; node = node.next) {
+            System.arraycopy(node.items, 0, array, copied, node.count);
+            copied += node.count;
+        }
+        return (T[]) array;
+    }
+
+    /**
+     * @return an iterator over the elements in the list in proper sequence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node node = head;
+            private int offset;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                while (node != null && offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+                return node != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the iteration.");
+                }
+                return (T) node.items[offset++];
+            }
+        };
+    }
+
+    /**
+     * Returns a list iterator over the elements in the list, starting at the beginning.
+     * The iterator keeps the node of its position, so moving, removing and inserting
+     * at the position run in O(1), splitting or merging at most one node.
+     *
+     * @return a list iterator over the elements in the list in proper sequence.
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new ListItr();
+    }
+
+    /**
+     * List iterator working on the nodes of the list. The element returned by the next call
+     * to next() is at the offset in the node, or the offset is the end of the node.
+     */
+    private class ListItr implements ListIterator<T> {
+        private Node node = head;  // Node of the iterator position, null if the list is empty.
+        private int offset;  // Offset of the iterator position in the node.
+        private int nextIdx;  // Index of the element returned by the next call to next().
+        private Node lastNode;  // Node of the element returned last, or null if there is none.
+        private int lastOffset;  // Offset of the element returned last in its node.
+        private int lastRet = -1;  // Index of the element returned last, or -1 if there is none.
+        private int expectedModCount = modCount;
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIdx < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the iteration.");
+            }
+            while (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            lastNode = node;
+            lastOffset = offset;
+            lastRet = nextIdx++;
+            return (T) node.items[offset++];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIdx > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("No more elements in the iteration.");
+            }
+            while (offset == 0) {
+                node = node.prev;
+                offset = node.count;
+            }
+            lastNode = node;
+            lastOffset = --offset;
+            lastRet = --nextIdx;
+            return (T) node.items[offset];
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIdx;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIdx - 1;
+        }
+
+        /**
+         * Removes the element returned last from its node in O(1) and merges the node
+         * with its successor if it is underfilled.
+         */
+        @Override
+        public void remove() {
+            if (lastNode == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            Node removedFrom = lastNode;
+            System.arraycopy(removedFrom.items, lastOffset + 1, removedFrom.items, lastOffset,
+                    removedFrom.count - lastOffset - 1);
+            removedFrom.items[--removedFrom.count] = null;
+            node = removedFrom;
+            offset = lastOffset;
+            if (removedFrom.count == 0) {
+                if (removedFrom.next != null) {
+                    node = removedFrom.next;
+                    offset = 0;
+                } else if (removedFrom.prev != null) {
+                    node = removedFrom.prev;
+                    offset = node.count;
+                } else {
+                    node = null;
+                    offset = 0;
+                }
+            }
+            compact(removedFrom);
+            if (lastRet < nextIdx) {
+                nextIdx--;
+            }
+            size--;
+            cursor = null;
+            expectedModCount = ++modCount;
+            lastNode = null;
+            lastRet = -1;
+        }
+
+        @Override
+        public void set(T elm) {
+            if (lastNode == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lastNode.items[lastOffset] = elm;
+        }
+
+        /**
+         * Inserts the specified element at the iterator position in O(1),
+         * splitting the node in half first if it is full.
+         */
+        @Override
+        public void add(T elm) {
+            checkForComodification();
+            if (node == null) {
+                node = linkAfter(null);
+                offset = 0;
+            } else if (node.count == nodeCapacity) {
+                int half = nodeCapacity >>> 1;
+                Node right = linkAfter(node);
+                right.count = nodeCapacity - half;
+                System.arraycopy(node.items, half, right.items, 0, right.count);
+                Arrays.fill(node.items, half, nodeCapacity, null);
+                node.count = half;
+                if (offset > half) {
+                    node = right;
+                    offset -= half;
+                }
+            }
+            System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+            node.items[offset++] = elm;
+            node.count++;
+            nextIdx++;
+            size++;
+            cursor = null;
+            expectedModCount = ++modCount;
+            lastNode = null;
+            lastRet = -1;
+        }
+    }
+
+    /**
+     * Returns a string representation of the UnrolledLinkedList.
+     *
+     * @return a string representation of the UnrolledLinkedList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
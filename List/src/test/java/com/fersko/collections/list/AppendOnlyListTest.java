@@ -0,0 +1,103 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AppendOnlyListTest {
+
+	private static final int THREADS = 8;
+
+	@Test
+	void appendAcrossChunks() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new AppendOnlyList<>();
+		for (int i = 0; i < 5000; i++) {
+			list.add(i);
+			myList.add(i);
+		}
+		Integer[] block = {-1, -2, -3};
+		list.addAll(List.of(block));
+		myList.addAll(block);
+		assertTrue(isEqualsList(list, myList));
+		assertEquals(list.indexOf(4095), myList.indexOf(4095));
+		assertEquals(-1, myList.indexOf(10_000));
+		assertArrayEquals(list.toArray(), myList.toArray());
+		int i = 0;
+		for (Integer elm : myList) {
+			assertEquals(list.get(i++), elm);
+		}
+		assertEquals(list.size(), i);
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.get(list.size()));
+	}
+
+	@Test
+	void rejectNonAppendOperations() {
+		MyList<Integer> myList = new AppendOnlyList<>();
+		myList.add(1);
+		assertThrows(UnsupportedOperationException.class, () -> myList.add(0, 2));
+		assertThrows(UnsupportedOperationException.class, () -> myList.remove(0));
+		assertThrows(UnsupportedOperationException.class, () -> myList.remove(Integer.valueOf(1)));
+		assertThrows(UnsupportedOperationException.class, () -> myList.removeIf(e -> true));
+		assertThrows(UnsupportedOperationException.class, () -> myList.sort(Comparator.naturalOrder()));
+		assertThrows(UnsupportedOperationException.class, myList::clean);
+	}
+
+	@Test
+	void concurrentAppendsAppendOnlyList() throws Exception {
+		AppendOnlyList<Integer> myList = new AppendOnlyList<>();
+		int perThread = 50_000;
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			int base = t * perThread;
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < perThread; i++) {
+					myList.add(base + i);
+				}
+				return null;
+			}));
+		}
+		futures.add(executor.submit(() -> {
+			start.await();
+			int seen = 0;
+			while (seen < THREADS * perThread) {
+				int size = myList.size();
+				for (; seen < size; seen++) {
+					assertNotNull(myList.get(seen));
+				}
+			}
+			return null;
+		}));
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		Object[] elms = myList.toArray();
+		assertEquals(THREADS * perThread, elms.length);
+		Arrays.sort(elms);
+		for (int i = 0; i < elms.length; i++) {
+			assertEquals(i, elms[i]);
+		}
+	}
+
+}
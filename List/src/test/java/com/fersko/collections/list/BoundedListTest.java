@@ -0,0 +1,155 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedListTest {
+
+	@Test
+	void operationsBoundedList() {
+		List<Integer> list = new ArrayList<>();
+		BoundedList<Integer> myList = new BoundedList<>(20, OverflowPolicy.REJECT);
+		Random random = new Random(5);
+		int peak = 0;
+		int rejected = 0;
+		for (int i = 0; i < 10_000; i++) {
+			int idx = random.nextInt(list.size() + 1);
+			switch (random.nextInt(5)) {
+				case 0:
+					if (list.size() < 20) {
+						list.add(idx, i);
+						myList.add(idx, i);
+					}
+					break;
+				case 1:
+					if (idx < list.size()) {
+						assertEquals(list.remove(idx), myList.remove(idx));
+					}
+					break;
+				case 2:
+					if (!list.isEmpty()) {
+						assertEquals(list.remove(0), myList.removeFirst());
+					}
+					break;
+				case 3:
+					int toIdx = Math.min(list.size(), idx + random.nextInt(4));
+					list.subList(idx, toIdx).clear();
+					myList.removeRange(idx, toIdx);
+					break;
+				default:
+					assertEquals(list.size() < 20, myList.offer(i % 30));
+					if (list.size() < 20) {
+						list.add(i % 30);
+					} else {
+						rejected++;
+					}
+			}
+			peak = Math.max(peak, list.size());
+		}
+		assertTrue(isEqualsList(list, myList));
+		assertEquals(list.indexOf(12), myList.indexOf(12));
+		assertEquals(list.lastIndexOf(12), myList.lastIndexOf(12));
+		assertEquals(list.remove(Integer.valueOf(12)), myList.remove(Integer.valueOf(12)));
+		assertEquals(list.removeIf(i -> i % 4 == 0), myList.removeIf(i -> i % 4 == 0));
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertArrayEquals(list.toArray(), myList.toArray());
+		int i = 0;
+		for (Integer elm : myList) {
+			assertEquals(list.get(i++), elm);
+		}
+		assertEquals(peak, myList.highWaterMark());
+		assertEquals(rejected, myList.overflowCount());
+		myList.clean();
+		assertEquals(20, myList.remainingCapacity());
+		assertThrows(NoSuchElementException.class, myList::removeFirst);
+	}
+
+	@Test
+	void rejectBoundedList() {
+		BoundedList<Integer> myList = new BoundedList<>(3, OverflowPolicy.REJECT);
+		myList.addAll(new Integer[]{1, 2, 3});
+		assertFalse(myList.offer(4));
+		assertThrows(IllegalStateException.class, () -> myList.add(4));
+		assertThrows(IllegalStateException.class, () -> myList.add(0, 4));
+		assertArrayEquals(new Object[]{1, 2, 3}, myList.toArray());
+		assertEquals(3, myList.overflowCount());
+		assertEquals(0, myList.remainingCapacity());
+		assertEquals(3, myList.capacity());
+	}
+
+	@Test
+	void overwriteOldestBoundedList() {
+		BoundedList<Integer> myList = new BoundedList<>(4, OverflowPolicy.OVERWRITE_OLDEST);
+		for (int i = 0; i < 10; i++) {
+			myList.add(i);
+		}
+		assertArrayEquals(new Object[]{6, 7, 8, 9}, myList.toArray());
+		myList.add(2, -1);
+		assertArrayEquals(new Object[]{7, -1, 8, 9}, myList.toArray());
+		assertEquals(7, myList.overflowCount());
+		assertEquals(4, myList.highWaterMark());
+	}
+
+	@Test
+	void blockBoundedList() throws InterruptedException {
+		BoundedList<Integer> timed = new BoundedList<>(2, OverflowPolicy.BLOCK, 10, TimeUnit.MILLISECONDS);
+		timed.add(1);
+		timed.add(2);
+		assertFalse(timed.offer(3));
+		assertEquals(1, timed.overflowCount());
+
+		BoundedList<Integer> myList = new BoundedList<>(2, OverflowPolicy.BLOCK, 10, TimeUnit.SECONDS);
+		myList.add(1);
+		myList.add(2);
+		CountDownLatch started = new CountDownLatch(1);
+		Thread consumer = new Thread(() -> {
+			started.countDown();
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			myList.removeFirst();
+		});
+		consumer.start();
+		started.await();
+		assertTrue(myList.offer(3));
+		consumer.join();
+		assertArrayEquals(new Object[]{2, 3}, myList.toArray());
+		assertEquals(0, myList.overflowCount());
+		assertThrows(IllegalArgumentException.class, () -> new BoundedList<>(0, OverflowPolicy.BLOCK));
+	}
+
+	@Test
+	void listIteratorBoundedList() {
+		BoundedList<Integer> myList = new BoundedList<>(2, OverflowPolicy.OVERWRITE_OLDEST);
+		myList.add(1);
+		myList.add(2);
+		ListIterator<Integer> iterator = myList.listIterator();
+		assertEquals(1, iterator.next());
+		assertThrows(UnsupportedOperationException.class, () -> iterator.add(9));
+		assertThrows(UnsupportedOperationException.class, () -> iterator.set(9));
+		assertThrows(UnsupportedOperationException.class, iterator::remove);
+		myList.add(3);
+		assertEquals(2, iterator.next());
+		assertEquals(2, iterator.previous());
+		assertArrayEquals(new Object[]{2, 3}, myList.toArray());
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleListTest {
+
+	@Test
+	void searchDoubleList() {
+		DoubleList doubleList = new DoubleList();
+		doubleList.addAll(1.5, Double.NaN, 0.0);
+		assertTrue(doubleList.contains(Double.NaN));
+		assertFalse(doubleList.contains(-0.0));
+		assertEquals(2, doubleList.indexOf(0.0));
+	}
+
+	@Test
+	void sortDoubleList() {
+		DoubleList doubleList = new DoubleList();
+		doubleList.addAll(2.5, -1.0, Double.NaN, 0.0, -0.0);
+		doubleList.sort();
+		assertArrayEquals(new double[]{-1.0, -0.0, 0.0, 2.5, Double.NaN}, doubleList.toArray());
+	}
+
+}
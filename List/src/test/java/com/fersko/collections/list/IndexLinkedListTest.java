@@ -0,0 +1,134 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static com.fersko.collections.list.UtilsListForTest.fillList;
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexLinkedListTest {
+
+	@Test
+	void operationsIndexLinkedList() {
+		List<Integer> list = new LinkedList<>();
+		IndexLinkedList<Integer> myList = new IndexLinkedList<>(4);
+		fillList(list, myList);
+		Random random = new Random(13);
+		for (int i = 0; i < 10_000; i++) {
+			int idx = random.nextInt(list.size() + 1);
+			switch (random.nextInt(7)) {
+				case 0:
+					list.add(idx, i);
+					myList.add(idx, i);
+					break;
+				case 1:
+					if (idx < list.size()) {
+						assertEquals(list.remove(idx), myList.remove(idx));
+					}
+					break;
+				case 2:
+					int toIdx = Math.min(list.size(), idx + random.nextInt(5));
+					list.subList(idx, toIdx).clear();
+					myList.removeRange(idx, toIdx);
+					break;
+				case 3:
+					assertEquals(list.remove(Integer.valueOf(i % 40)), myList.remove(Integer.valueOf(i % 40)));
+					break;
+				case 4:
+					if (idx < list.size()) {
+						assertEquals(list.set(idx, -i), myList.set(idx, -i));
+					}
+					break;
+				default:
+					list.add(i % 40);
+					myList.add(i % 40);
+			}
+		}
+		assertTrue(isEqualsList(list, myList));
+		assertEquals(list.indexOf(17), myList.indexOf(17));
+		assertEquals(list.lastIndexOf(17), myList.lastIndexOf(17));
+		assertEquals(list.contains(-5), myList.contains(-5));
+		assertEquals(list.removeIf(elm -> elm % 3 == 0), myList.removeIf(elm -> elm % 3 == 0));
+		assertArrayEquals(list.toArray(), myList.toArray());
+
+		myList.compact();
+		assertArrayEquals(list.toArray(), myList.toArray());
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertArrayEquals(list.toArray(), myList.toArray());
+		myList.trimToSize();
+		assertEquals(list.size(), myList.capacity());
+		myList.add(1);
+		assertEquals(1, myList.get(list.size()));
+		myList.clean();
+		assertEquals(0, myList.size());
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.get(0));
+	}
+
+	@Test
+	void slotReuseIndexLinkedList() {
+		IndexLinkedList<Integer> myList = new IndexLinkedList<>(8);
+		for (int i = 0; i < 8; i++) {
+			myList.add(i);
+		}
+		for (int i = 0; i < 1000; i++) {
+			myList.remove(0);
+			myList.add(i);
+		}
+		assertEquals(8, myList.capacity());
+		assertArrayEquals(new Object[]{992, 993, 994, 995, 996, 997, 998, 999}, myList.toArray());
+	}
+
+	@Test
+	void listIteratorIndexLinkedList() {
+		List<Integer> list = new LinkedList<>();
+		IndexLinkedList<Integer> myList = new IndexLinkedList<>();
+		fillList(list, myList);
+		ListIterator<Integer> expected = list.listIterator();
+		ListIterator<Integer> actual = myList.listIterator();
+		while (expected.hasNext()) {
+			Integer elm = expected.next();
+			assertEquals(elm, actual.next());
+			if (elm % 3 == 0) {
+				expected.remove();
+				actual.remove();
+			} else if (elm % 3 == 1) {
+				expected.add(-elm);
+				actual.add(-elm);
+			} else {
+				expected.set(elm * 10);
+				actual.set(elm * 10);
+			}
+		}
+		while (expected.hasPrevious()) {
+			assertEquals(expected.previous(), actual.previous());
+			assertEquals(expected.nextIndex(), actual.nextIndex());
+		}
+		expected.next();
+		actual.next();
+		expected.previous();
+		actual.previous();
+		expected.remove();
+		actual.remove();
+		assertTrue(isEqualsList(list, myList));
+		assertThrows(IllegalStateException.class, actual::remove);
+
+		Iterator<Integer> iterator = myList.iterator();
+		iterator.next();
+		myList.add(5);
+		assertThrows(ConcurrentModificationException.class, iterator::next);
+		assertThrows(ConcurrentModificationException.class, actual::next);
+	}
+
+}
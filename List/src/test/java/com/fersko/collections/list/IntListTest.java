@@ -0,0 +1,103 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntListTest {
+
+	private static boolean isEqualsList(List<Integer> list, IntList intList) {
+		if (list.size() != intList.size()) {
+			return false;
+		}
+		for (int i = 0; i < list.size(); i++) {
+			if (list.get(i) != intList.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Test
+	void addGetIntList() {
+		List<Integer> list = new ArrayList<>();
+		IntList intList = new IntList(2);
+		for (int i = 0; i < 100; i++) {
+			list.add(i * 7);
+			intList.add(i * 7);
+		}
+		list.add(0, -1);
+		intList.add(0, -1);
+		list.add(50, -2);
+		intList.add(50, -2);
+		assertTrue(isEqualsList(list, intList));
+		assertThrows(IndexOutOfBoundsException.class, () -> intList.get(102));
+	}
+
+	@Test
+	void removeIntList() {
+		List<Integer> list = new ArrayList<>();
+		IntList intList = new IntList();
+		for (int i = 0; i < 10; i++) {
+			list.add(i);
+			intList.add(i);
+		}
+		assertEquals((int) list.remove(3), intList.remove(3));
+		assertEquals(list.remove(Integer.valueOf(7)), intList.removeValue(7));
+		assertFalse(intList.removeValue(42));
+		assertTrue(isEqualsList(list, intList));
+	}
+
+	@Test
+	void searchIntList() {
+		IntList intList = new IntList();
+		intList.addAll(5, 3, 5, 1);
+		assertTrue(intList.contains(3));
+		assertFalse(intList.contains(4));
+		assertEquals(0, intList.indexOf(5));
+		assertEquals(2, intList.lastIndexOf(5));
+		assertEquals(-1, intList.indexOf(9));
+	}
+
+	@Test
+	void sortIntList() {
+		List<Integer> list = new ArrayList<>();
+		IntList intList = new IntList();
+		Random random = new Random(3);
+		for (int i = 0; i < 1000; i++) {
+			int value = random.nextInt();
+			list.add(value);
+			intList.add(value);
+		}
+		Collections.sort(list);
+		intList.sort();
+		assertTrue(isEqualsList(list, intList));
+	}
+
+	@Test
+	void iteratorToArrayIntList() {
+		IntList intList = new IntList();
+		intList.addAll(4, 8, 15, 16, 23, 42);
+		PrimitiveIterator.OfInt iterator = intList.iterator();
+		int sum = 0;
+		while (iterator.hasNext()) {
+			sum += iterator.nextInt();
+		}
+		assertEquals(108, sum);
+		assertArrayEquals(new int[]{4, 8, 15, 16, 23, 42}, intList.toArray());
+		intList.clean();
+		assertEquals(0, intList.size());
+		assertFalse(intList.iterator().hasNext());
+	}
+
+}
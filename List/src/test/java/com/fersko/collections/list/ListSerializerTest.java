@@ -0,0 +1,120 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ListSerializerTest {
+
+	private static <T> byte[] write(ListSerializer<T> serializer, MyList<T> list) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		serializer.write(list, Channels.newChannel(out));
+		return out.toByteArray();
+	}
+
+	private static <T, L extends MyList<T>> L read(ListSerializer<T> serializer, byte[] bytes, L target)
+			throws IOException {
+		return serializer.read(Channels.newChannel(new ByteArrayInputStream(bytes)), target);
+	}
+
+	@Test
+	void roundTripArrayToLinked() throws IOException {
+		ListSerializer<Long> serializer = new ListSerializer<>(ElementCodec.ofLong(), 64);
+		List<Long> list = new ArrayList<>();
+		MyList<Long> myList = new MyArrayList<>();
+		for (long i = 0; i < 1000; i++) {
+			list.add(i * 17 - 5);
+			myList.add(i * 17 - 5);
+		}
+		byte[] bytes = write(serializer, myList);
+		assertEquals(20 + 1000 * Long.BYTES, bytes.length);
+		assertTrue(isEqualsList(list, read(serializer, bytes, new MyLinkedList<>())));
+		assertTrue(isEqualsList(list, read(serializer, bytes, new MyArrayList<>())));
+	}
+
+	@Test
+	void writeOnlyTheElements() throws IOException {
+		ListSerializer<Integer> serializer = new ListSerializer<>(ElementCodec.ofInt());
+		MyList<Integer> source = new MyArrayList<>(100);
+		for (int i = 0; i < 10; i++) {
+			source.add(i);
+		}
+		source.removeRange(2, 5);
+		byte[] bytes = write(serializer, source);
+		assertEquals(20 + 7 * Integer.BYTES, bytes.length);
+		assertTrue(isEqualsList(List.of(0, 1, 5, 6, 7, 8, 9), read(serializer, bytes, new MyLinkedList<>())));
+	}
+
+	@Test
+	void roundTripEmptyAndAppend() throws IOException {
+		ListSerializer<Integer> serializer = new ListSerializer<>(ElementCodec.ofInt());
+		MyList<Integer> empty = new MyLinkedList<>();
+		MyList<Integer> target = new MyArrayList<>();
+		target.add(42);
+		read(serializer, write(serializer, empty), target);
+		assertEquals(1, target.size());
+
+		MyList<Integer> source = new MyLinkedList<>();
+		source.add(1);
+		source.add(2);
+		read(serializer, write(serializer, source), target);
+		assertTrue(isEqualsList(List.of(42, 1, 2), target));
+	}
+
+	@Test
+	void rejectBrokenSnapshot() throws IOException {
+		ListSerializer<Integer> serializer = new ListSerializer<>(ElementCodec.ofInt());
+		MyList<Integer> source = new MyArrayList<>();
+		source.add(1);
+		source.add(2);
+		byte[] bytes = write(serializer, source);
+
+		byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+		assertThrows(EOFException.class, () -> read(serializer, truncated, new MyArrayList<>()));
+
+		ListSerializer<Long> longSerializer = new ListSerializer<>(ElementCodec.ofLong());
+		assertThrows(StreamCorruptedException.class, () -> read(longSerializer, bytes, new MyArrayList<>()));
+
+		byte[] garbage = new byte[bytes.length];
+		assertThrows(StreamCorruptedException.class, () -> read(serializer, garbage, new MyArrayList<>()));
+	}
+
+	@Test
+	void rejectNullBeforeWriting() {
+		ListSerializer<Integer> serializer = new ListSerializer<>(ElementCodec.ofInt(), 64);
+		MyList<Integer> source = new MyArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			source.add(i);
+		}
+		source.add(null);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertThrows(IllegalArgumentException.class, () -> serializer.write(source, Channels.newChannel(out)));
+		assertEquals(0, out.size());
+	}
+
+	@Test
+	void roundTripConcurrentList() throws IOException {
+		ListSerializer<Integer> serializer = new ListSerializer<>(ElementCodec.ofInt());
+		AppendOnlyList<Integer> source = new AppendOnlyList<>();
+		for (int i = 0; i < 100; i++) {
+			source.add(i);
+		}
+		byte[] bytes = write(serializer, source);
+		assertEquals(20 + 100 * Integer.BYTES, bytes.length);
+		assertEquals(100, read(serializer, bytes, new MyArrayList<>()).size());
+	}
+
+}
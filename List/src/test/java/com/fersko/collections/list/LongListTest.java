@@ -0,0 +1,32 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongListTest {
+
+	@Test
+	void addRemoveLongList() {
+		LongList longList = new LongList(1);
+		longList.addAll(1L << 40, 7L, -3L);
+		longList.add(1, 99L);
+		assertArrayEquals(new long[]{1L << 40, 99L, 7L, -3L}, longList.toArray());
+		assertEquals(99L, longList.remove(1));
+		assertTrue(longList.removeValue(-3L));
+		assertFalse(longList.contains(-3L));
+		assertEquals(2, longList.size());
+	}
+
+	@Test
+	void sortLongList() {
+		LongList longList = new LongList();
+		longList.addAll(5L, Long.MIN_VALUE, 0L, Long.MAX_VALUE, -5L);
+		longList.sort();
+		assertArrayEquals(new long[]{Long.MIN_VALUE, -5L, 0L, 5L, Long.MAX_VALUE}, longList.toArray());
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedListTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void reopenMappedList() throws IOException {
+		Path file = dir.resolve("list.bin");
+		List<Long> list = new ArrayList<>();
+		try (MappedList<Long> myList = new MappedList<>(file, ElementCodec.ofLong(), 8)) {
+			for (long i = 0; i < 100; i++) {
+				list.add(i * 3);
+				myList.add(i * 3);
+			}
+			list.remove(10);
+			myList.remove(10);
+			list.add(0, -7L);
+			myList.add(0, -7L);
+		}
+		try (MappedList<Long> myList = new MappedList<>(file, ElementCodec.ofLong(), 16)) {
+			assertTrue(isEqualsList(list, myList));
+			list.sort(Comparator.reverseOrder());
+			myList.sort(Comparator.reverseOrder());
+			list.add(1000L);
+			myList.add(1000L);
+		}
+		try (MappedList<Long> myList = new MappedList<>(file, ElementCodec.ofLong())) {
+			assertTrue(isEqualsList(list, myList));
+		}
+	}
+
+	@Test
+	void cleanMappedList() throws IOException {
+		Path file = dir.resolve("clean.bin");
+		try (MappedList<Integer> myList = new MappedList<>(file, ElementCodec.ofInt(), 4)) {
+			for (int i = 0; i < 20; i++) {
+				myList.add(i);
+			}
+			myList.clean();
+			assertEquals(0, myList.size());
+			myList.add(5);
+		}
+		try (MappedList<Integer> myList = new MappedList<>(file, ElementCodec.ofInt(), 4)) {
+			assertEquals(1, myList.size());
+			assertEquals(5, myList.get(0));
+		}
+	}
+
+	@Test
+	void rejectForeignFile() throws IOException {
+		Path file = dir.resolve("ints.bin");
+		try (MappedList<Integer> myList = new MappedList<>(file, ElementCodec.ofInt())) {
+			myList.add(1);
+		}
+		assertThrows(IllegalArgumentException.class, () -> new MappedList<>(file, ElementCodec.ofLong()));
+		Path garbage = dir.resolve("garbage.bin");
+		Files.write(garbage, new byte[128]);
+		assertThrows(IllegalArgumentException.class, () -> new MappedList<>(garbage, ElementCodec.ofInt()));
+	}
+
+}
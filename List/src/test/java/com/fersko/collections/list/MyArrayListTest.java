@@ -3,12 +3,22 @@ package com.fersko.collections.list;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
+import static com.fersko.collections.list.UtilsListForTest.checkPositionIndex;
 import static com.fersko.collections.list.UtilsListForTest.fillList;
 import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MyArrayListTest {
@@ -82,6 +92,20 @@ public class MyArrayListTest {
 		assertEquals(list.contains(227), myList.contains(788));
 	}
 
+	@Test
+	void toArrayArrayList() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new MyArrayList<>(64);
+		fillList(list, myList);
+		myList.remove(3);
+		list.remove(3);
+		Object[] elms = myList.toArray();
+		assertEquals(list.size(), elms.length);
+		assertTrue(Arrays.equals(list.toArray(), elms));
+		elms[0] = -1;
+		assertEquals(0, myList.get(0));
+	}
+
 	@Test
 	void sortArrayList() {
 		List<Integer> list = new ArrayList<>();
@@ -92,6 +116,300 @@ public class MyArrayListTest {
 		}
 		list.sort(Comparator.naturalOrder());
 		myList.sort(Comparator.naturalOrder());
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void sortLargeRandomArrayList() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new MyArrayList<>();
+		Random random = new Random(7);
+		for (int i = 0; i < 10_000; i++) {
+			int value = random.nextInt(1000);
+			list.add(value);
+			myList.add(value);
+		}
+		list.sort(Comparator.reverseOrder());
+		myList.sort(Comparator.reverseOrder());
+		assertTrue(isEqualsList(list, myList));
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void sortIsStableArrayList() {
+		List<String> list = new ArrayList<>();
+		MyList<String> myList = new MyArrayList<>();
+		Random random = new Random(13);
+		for (int i = 0; i < 5_000; i++) {
+			String value = random.nextInt(50) + ":" + i;
+			list.add(value);
+			myList.add(value);
+		}
+		Comparator<String> byKey = Comparator.comparingInt(s -> Integer.parseInt(s.substring(0, s.indexOf(':'))));
+		list.sort(byKey);
+		myList.sort(byKey);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void parallelSortArrayList() {
+		List<String> list = new ArrayList<>();
+		MyArrayList<String> myList = new MyArrayList<>();
+		Random random = new Random(21);
+		for (int i = 0; i < 50_000; i++) {
+			String value = random.nextInt(100) + ":" + i;
+			list.add(value);
+			myList.add(value);
+		}
+		Comparator<String> byKey = Comparator.comparingInt(s -> Integer.parseInt(s.substring(0, s.indexOf(':'))));
+		list.sort(byKey);
+		myList.parallelSort(byKey, 1000);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void indexOfArrayList() {
+		List<String> list = new ArrayList<>();
+		MyList<String> myList = new MyArrayList<>();
+		for (String value : new String[]{"a", null, "b", "a", null, "c"}) {
+			list.add(value);
+			myList.add(value);
+		}
+		assertEquals(list.indexOf("a"), myList.indexOf("a"));
+		assertEquals(list.lastIndexOf("a"), myList.lastIndexOf("a"));
+		assertEquals(list.indexOf(null), myList.indexOf(null));
+		assertEquals(list.lastIndexOf(null), myList.lastIndexOf(null));
+		assertEquals(-1, myList.indexOf("z"));
+		assertTrue(myList.contains(null));
+		assertTrue(myList.remove((String) null));
+		assertEquals(3, myList.indexOf(null));
+		assertFalse(myList.contains("z"));
+	}
+
+	@Test
+	void addAllArrayList() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new MyArrayList<>(4);
+		fillList(list, myList);
+		Integer[] array = {100, 200, 300};
+		list.addAll(Arrays.asList(array));
+		myList.addAll(array);
+		assertTrue(isEqualsList(list, myList));
+		list.addAll(List.of(7, 8));
+		myList.addAll(List.of(7, 8));
+		assertTrue(isEqualsList(list, myList));
+		list.addAll(new ArrayList<>(list));
+		myList.addAll(myList);
+		assertTrue(isEqualsList(list, myList));
+		MyList<Integer> other = new MyLinkedList<>();
+		other.add(-5);
+		list.add(-5);
+		myList.addAll(other);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void removeRangeArrayList() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new MyArrayList<>();
+		fillList(list, myList);
+		list.subList(2, 6).clear();
+		myList.removeRange(2, 6);
+		assertTrue(isEqualsList(list, myList));
+		list.subList(4, 6).clear();
+		myList.removeRange(4, 6);
+		assertTrue(isEqualsList(list, myList));
+		list.subList(0, 1).clear();
+		myList.removeRange(0, 1);
+		assertTrue(isEqualsList(list, myList));
+		myList.removeRange(1, 1);
+		assertTrue(isEqualsList(list, myList));
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.removeRange(2, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.removeRange(0, 10));
+		list.add(42);
+		myList.add(42);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void removeIfRetainAllArrayList() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new MyArrayList<>();
+		fillList(list, myList);
+		assertEquals(list.removeIf(i -> i % 3 == 0), myList.removeIf(i -> i % 3 == 0));
+		assertTrue(isEqualsList(list, myList));
+		assertFalse(myList.removeIf(i -> i > 100));
+		MyList<Integer> keep = new MyArrayList<>();
+		keep.add(2);
+		keep.add(5);
+		keep.add(8);
+		list.retainAll(List.of(2, 5, 8));
+		assertTrue(myList.retainAll(keep));
+		assertTrue(isEqualsList(list, myList));
+		list.add(11);
+		myList.add(11);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void listIteratorArrayList() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new MyArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			list.add(i);
+			myList.add(i);
+		}
+		ListIterator<Integer> it = list.listIterator();
+		ListIterator<Integer> myIt = myList.listIterator();
+		while (it.hasNext()) {
+			assertTrue(myIt.hasNext());
+			int elm = it.next();
+			assertEquals(elm, myIt.next());
+			if (elm % 3 == 0) {
+				it.remove();
+				myIt.remove();
+			} else if (elm % 3 == 1) {
+				it.set(-elm);
+				myIt.set(-elm);
+			} else {
+				it.add(1000 + elm);
+				myIt.add(1000 + elm);
+			}
+			assertEquals(it.nextIndex(), myIt.nextIndex());
+			if (elm % 100 == 50) {
+				assertEquals(list.get(list.size() / 2), myList.get(myList.size() / 2));
+			}
+		}
+		assertFalse(myIt.hasNext());
+		while (it.hasPrevious()) {
+			int elm = it.previous();
+			assertEquals(elm, myIt.previous());
+			if (elm % 5 == 0) {
+				it.remove();
+				myIt.remove();
+			} else if (elm % 7 == 0) {
+				it.add(-1);
+				myIt.add(-1);
+				assertEquals(it.previous(), myIt.previous());
+			}
+			assertEquals(it.previousIndex(), myIt.previousIndex());
+		}
+		assertTrue(isEqualsList(list, myList));
+		myList.add(1);
+		list.add(1);
+		assertTrue(isEqualsList(list, myList));
+		assertThrows(IllegalStateException.class, () -> myList.listIterator().remove());
+	}
+
+	@Test
+	void concurrentModificationArrayList() {
+		MyList<Integer> myList = new MyArrayList<>();
+		fillList(new ArrayList<>(), myList);
+		ListIterator<Integer> myIt = myList.listIterator();
+		myIt.next();
+		myList.add(10);
+		assertThrows(ConcurrentModificationException.class, myIt::next);
+		Iterator<Integer> iter = myList.iterator();
+		iter.next();
+		myList.remove(0);
+		assertThrows(ConcurrentModificationException.class, iter::next);
+		ListIterator<Integer> first = myList.listIterator();
+		ListIterator<Integer> second = myList.listIterator();
+		first.next();
+		first.remove();
+		assertThrows(ConcurrentModificationException.class, second::next);
+	}
+
+	@Test
+	void streamArrayList() {
+		MyList<Integer> myList = new MyArrayList<>();
+		List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			list.add(i);
+			myList.add(i);
+		}
+		assertEquals(list.stream().mapToLong(i -> i).sum(), myList.stream().mapToLong(i -> i).sum());
+		assertEquals(list, myList.parallelStream().map(i -> i).collect(Collectors.toList()));
+		assertEquals(list.size(), myList.parallelStream().filter(i -> i >= 0).count());
+
+		Spliterator<Integer> spliterator = myList.spliterator();
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+		Spliterator<Integer> prefix = spliterator.trySplit();
+		assertEquals(list.size(), prefix.estimateSize() + spliterator.estimateSize());
+		assertTrue(prefix.hasCharacteristics(Spliterator.SIZED));
+		prefix.tryAdvance(i -> assertEquals(0, i));
+
+		Spliterator<Integer> bound = myList.spliterator();
+		bound.tryAdvance(i -> { });
+		myList.add(1);
+		assertThrows(ConcurrentModificationException.class, () -> bound.forEachRemaining(i -> { }));
+	}
+
+	@Test
+	void capacityArrayList() {
+		MyArrayList<Integer> myList = new MyArrayList<>(4);
+		myList.ensureCapacity(100);
+		assertTrue(myList.capacity() >= 100);
+		for (int i = 0; i < 10; i++) {
+			myList.add(i);
+		}
+		myList.trimToSize();
+		assertEquals(10, myList.capacity());
+		myList.add(10);
+		assertEquals(20, myList.capacity());
+		assertEquals(10, myList.get(10));
+
+		int capacity = myList.capacity();
+		myList.clean();
+		assertEquals(0, myList.size());
+		assertEquals(capacity, myList.capacity());
+		myList.add(5);
+		assertEquals(5, myList.get(0));
+
+		MyArrayList<Integer> empty = new MyArrayList<>();
+		empty.trimToSize();
+		empty.add(1);
+		assertEquals(1, empty.get(0));
+	}
+
+	@Test
+	void growthStrategyArrayList() {
+		MyArrayList<Integer> byIncrement = new MyArrayList<>(4, GrowthStrategy.ofIncrement(3));
+		MyArrayList<Integer> byFactor = new MyArrayList<>(4, GrowthStrategy.ofFactor(1.5));
+		MyArrayList<Integer> capped = new MyArrayList<>(4, GrowthStrategy.ofCappedFactor(2.0, 100));
+		for (int i = 0; i < 5; i++) {
+			byIncrement.add(i);
+			byFactor.add(i);
+			capped.add(i);
+		}
+		assertEquals(7, byIncrement.capacity());
+		assertEquals(6, byFactor.capacity());
+		assertEquals(8, capped.capacity());
+		for (int i = 5; i < 300; i++) {
+			capped.add(i);
+		}
+		assertEquals(328, capped.capacity());
+		byIncrement.addAll(new Integer[20]);
+		assertEquals(25, byIncrement.capacity());
+
+		assertThrows(IllegalArgumentException.class, () -> GrowthStrategy.ofFactor(1.0));
+		assertThrows(IllegalArgumentException.class, () -> GrowthStrategy.ofIncrement(0));
+		assertThrows(IllegalArgumentException.class, () -> GrowthStrategy.ofCappedFactor(2.0, -1));
+	}
+
+	@Test
+	void positionIndexArrayList() {
+		MyArrayList<Integer> myList = new MyArrayList<>();
+		myList.add(7);
+		myList.enableIndex();
+		assertTrue(myList.isIndexed());
+		assertTrue(myList.contains(7));
+		checkPositionIndex(myList);
+		myList.disableIndex();
+		assertFalse(myList.isIndexed());
+		assertEquals(0, myList.indexOf(-1));
 	}
 
 }
@@ -2,13 +2,24 @@ package com.fersko.collections.list;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
+import static com.fersko.collections.list.UtilsListForTest.checkPositionIndex;
 import static com.fersko.collections.list.UtilsListForTest.fillList;
 import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MyLinkedListTest {
@@ -96,4 +107,347 @@ public class MyLinkedListTest {
 		assertTrue(isEqualsList(list, myList));
 	}
 
+	@Test
+	void sortLargeRandomLinkedList() {
+		List<Integer> list = new LinkedList<>();
+		MyList<Integer> myList = new MyLinkedList<>();
+		Random random = new Random(7);
+		for (int i = 0; i < 10_000; i++) {
+			int value = random.nextInt(1000);
+			list.add(value);
+			myList.add(value);
+		}
+		list.sort(Comparator.reverseOrder());
+		myList.sort(Comparator.reverseOrder());
+		assertTrue(isEqualsList(list, myList));
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertTrue(isEqualsList(list, myList));
+		list.add(-1);
+		myList.add(-1);
+		list.remove(list.size() - 2);
+		myList.remove(myList.size() - 2);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void sortIsStableLinkedList() {
+		List<String> list = new LinkedList<>();
+		MyList<String> myList = new MyLinkedList<>();
+		Random random = new Random(13);
+		for (int i = 0; i < 5_000; i++) {
+			String value = random.nextInt(50) + ":" + i;
+			list.add(value);
+			myList.add(value);
+		}
+		Comparator<String> byKey = Comparator.comparingInt(s -> Integer.parseInt(s.substring(0, s.indexOf(':'))));
+		list.sort(byKey);
+		myList.sort(byKey);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void indexOfLinkedList() {
+		List<String> list = new LinkedList<>();
+		MyList<String> myList = new MyLinkedList<>();
+		for (String value : new String[]{"a", null, "b", "a", null, "c"}) {
+			list.add(value);
+			myList.add(value);
+		}
+		assertEquals(list.indexOf("a"), myList.indexOf("a"));
+		assertEquals(list.lastIndexOf("a"), myList.lastIndexOf("a"));
+		assertEquals(list.indexOf(null), myList.indexOf(null));
+		assertEquals(list.lastIndexOf(null), myList.lastIndexOf(null));
+		assertEquals(-1, myList.indexOf("z"));
+		assertTrue(myList.contains(null));
+		assertTrue(myList.remove((String) null));
+		assertEquals(3, myList.indexOf(null));
+		assertFalse(myList.contains("z"));
+	}
+
+	@Test
+	void addAllLinkedList() {
+		List<Integer> list = new LinkedList<>();
+		MyList<Integer> myList = new MyLinkedList<>();
+		fillList(list, myList);
+		Integer[] array = {100, 200, 300};
+		list.addAll(Arrays.asList(array));
+		myList.addAll(array);
+		assertTrue(isEqualsList(list, myList));
+		list.addAll(List.of(7, 8));
+		myList.addAll(List.of(7, 8));
+		assertTrue(isEqualsList(list, myList));
+		list.addAll(new ArrayList<>(list));
+		myList.addAll(myList);
+		assertTrue(isEqualsList(list, myList));
+		MyList<Integer> other = new MyLinkedList<>();
+		other.add(-5);
+		list.add(-5);
+		myList.addAll(other);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void removeRangeLinkedList() {
+		List<Integer> list = new LinkedList<>();
+		MyList<Integer> myList = new MyLinkedList<>();
+		fillList(list, myList);
+		list.subList(2, 6).clear();
+		myList.removeRange(2, 6);
+		assertTrue(isEqualsList(list, myList));
+		list.subList(4, 6).clear();
+		myList.removeRange(4, 6);
+		assertTrue(isEqualsList(list, myList));
+		list.subList(0, 1).clear();
+		myList.removeRange(0, 1);
+		assertTrue(isEqualsList(list, myList));
+		myList.removeRange(1, 1);
+		assertTrue(isEqualsList(list, myList));
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.removeRange(2, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.removeRange(0, 10));
+		list.add(42);
+		myList.add(42);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void removeIfRetainAllLinkedList() {
+		List<Integer> list = new LinkedList<>();
+		MyList<Integer> myList = new MyLinkedList<>();
+		fillList(list, myList);
+		assertEquals(list.removeIf(i -> i % 3 == 0), myList.removeIf(i -> i % 3 == 0));
+		assertTrue(isEqualsList(list, myList));
+		assertFalse(myList.removeIf(i -> i > 100));
+		MyList<Integer> keep = new MyArrayList<>();
+		keep.add(2);
+		keep.add(5);
+		keep.add(8);
+		list.retainAll(List.of(2, 5, 8));
+		assertTrue(myList.retainAll(keep));
+		assertTrue(isEqualsList(list, myList));
+		list.add(11);
+		myList.add(11);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void indexAccessFromCursorLinkedList() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new MyLinkedList<>();
+		for (int i = 0; i < 200_000; i++) {
+			list.add(i);
+			myList.add(i);
+		}
+		long sum = 0;
+		for (int i = 0; i < myList.size(); i++) {
+			sum += myList.get(i);
+		}
+		assertEquals(199_999L * 200_000 / 2, sum);
+		assertEquals(list.get(list.size() - 2), myList.get(myList.size() - 2));
+
+		Random random = new Random(11);
+		for (int i = 0; i < 5000; i++) {
+			int idx = random.nextInt(list.size());
+			switch (random.nextInt(4)) {
+				case 0:
+					list.add(idx, -i);
+					myList.add(idx, -i);
+					break;
+				case 1:
+					assertEquals(list.remove(idx), myList.remove(idx));
+					break;
+				case 2:
+					assertEquals(list.remove(Integer.valueOf(idx)), myList.remove(Integer.valueOf(idx)));
+					break;
+				default:
+					assertEquals(list.get(idx), myList.get(idx));
+			}
+			int near = Math.min(list.size() - 1, idx + 1);
+			assertEquals(list.get(near), myList.get(near));
+		}
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void cleanLinkedList() {
+		MyList<Integer> myList = new MyLinkedList<>();
+		fillList(new ArrayList<>(), myList);
+		myList.get(5);
+		myList.clean();
+		assertEquals(0, myList.size());
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.get(0));
+		myList.add(7);
+		assertEquals(7, myList.get(0));
+		assertEquals(1, myList.size());
+	}
+
+	@Test
+	void listIteratorLinkedList() {
+		List<Integer> list = new LinkedList<>();
+		MyList<Integer> myList = new MyLinkedList<>();
+		for (int i = 0; i < 1000; i++) {
+			list.add(i);
+			myList.add(i);
+		}
+		ListIterator<Integer> it = list.listIterator();
+		ListIterator<Integer> myIt = myList.listIterator();
+		while (it.hasNext()) {
+			assertTrue(myIt.hasNext());
+			int elm = it.next();
+			assertEquals(elm, myIt.next());
+			if (elm % 3 == 0) {
+				it.remove();
+				myIt.remove();
+			} else if (elm % 3 == 1) {
+				it.set(-elm);
+				myIt.set(-elm);
+			} else {
+				it.add(1000 + elm);
+				myIt.add(1000 + elm);
+			}
+			assertEquals(it.nextIndex(), myIt.nextIndex());
+			if (elm % 100 == 50) {
+				assertEquals(list.get(list.size() / 2), myList.get(myList.size() / 2));
+			}
+		}
+		assertFalse(myIt.hasNext());
+		while (it.hasPrevious()) {
+			int elm = it.previous();
+			assertEquals(elm, myIt.previous());
+			if (elm % 5 == 0) {
+				it.remove();
+				myIt.remove();
+			} else if (elm % 7 == 0) {
+				it.add(-1);
+				myIt.add(-1);
+				assertEquals(it.previous(), myIt.previous());
+			}
+			assertEquals(it.previousIndex(), myIt.previousIndex());
+		}
+		assertTrue(isEqualsList(list, myList));
+		myList.add(1);
+		list.add(1);
+		assertTrue(isEqualsList(list, myList));
+		assertThrows(IllegalStateException.class, () -> myList.listIterator().remove());
+	}
+
+	@Test
+	void concurrentModificationLinkedList() {
+		MyList<Integer> myList = new MyLinkedList<>();
+		fillList(new ArrayList<>(), myList);
+		ListIterator<Integer> myIt = myList.listIterator();
+		myIt.next();
+		myList.add(10);
+		assertThrows(ConcurrentModificationException.class, myIt::next);
+		Iterator<Integer> iter = myList.iterator();
+		iter.next();
+		myList.remove(0);
+		assertThrows(ConcurrentModificationException.class, iter::next);
+		ListIterator<Integer> first = myList.listIterator();
+		ListIterator<Integer> second = myList.listIterator();
+		first.next();
+		first.remove();
+		assertThrows(ConcurrentModificationException.class, second::next);
+	}
+
+	@Test
+	void streamLinkedList() {
+		MyList<Integer> myList = new MyLinkedList<>();
+		List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			list.add(i);
+			myList.add(i);
+		}
+		assertEquals(list.stream().mapToLong(i -> i).sum(), myList.stream().mapToLong(i -> i).sum());
+		assertEquals(list, myList.parallelStream().map(i -> i).collect(Collectors.toList()));
+		assertEquals(list.size(), myList.parallelStream().filter(i -> i >= 0).count());
+
+		Spliterator<Integer> spliterator = myList.spliterator();
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+		Spliterator<Integer> prefix = spliterator.trySplit();
+		assertEquals(list.size(), prefix.estimateSize() + spliterator.estimateSize());
+		assertTrue(prefix.hasCharacteristics(Spliterator.SIZED));
+		prefix.tryAdvance(i -> assertEquals(0, i));
+
+		Spliterator<Integer> bound = myList.spliterator();
+		bound.tryAdvance(i -> { });
+		myList.add(1);
+		assertThrows(ConcurrentModificationException.class, () -> bound.forEachRemaining(i -> { }));
+	}
+
+	@Test
+	void positionIndexLinkedList() {
+		MyLinkedList<Integer> myList = new MyLinkedList<>();
+		myList.add(7);
+		myList.enableIndex();
+		assertTrue(myList.isIndexed());
+		assertTrue(myList.contains(7));
+		checkPositionIndex(myList);
+		myList.disableIndex();
+		assertFalse(myList.isIndexed());
+		assertEquals(0, myList.indexOf(-1));
+	}
+
+	@Test
+	void nodePoolLinkedList() {
+		List<Integer> list = new LinkedList<>();
+		MyLinkedList<Integer> myList = new MyLinkedList<>();
+		myList.enableNodePool(16);
+		fillList(list, myList);
+		Random random = new Random(9);
+		for (int i = 0; i < 5000; i++) {
+			int idx = random.nextInt(list.size() + 1);
+			switch (random.nextInt(7)) {
+				case 0:
+					list.add(idx, i);
+					myList.add(idx, i);
+					break;
+				case 1:
+					if (idx < list.size()) {
+						assertEquals(list.remove(idx), myList.remove(idx));
+					}
+					break;
+				case 2:
+					int toIdx = Math.min(list.size(), idx + random.nextInt(30));
+					list.subList(idx, toIdx).clear();
+					myList.removeRange(idx, toIdx);
+					break;
+				case 3:
+					assertEquals(list.remove(Integer.valueOf(i % 40)), myList.remove(Integer.valueOf(i % 40)));
+					break;
+				case 4:
+					Integer[] block = {i, i + 1, i + 2};
+					list.addAll(Arrays.asList(block));
+					myList.addAll(block);
+					break;
+				default:
+					list.add(i % 40);
+					myList.add(i % 40);
+			}
+			assertTrue(myList.pooledNodes() <= 16);
+		}
+		assertTrue(isEqualsList(list, myList));
+		ListIterator<Integer> iterator = myList.listIterator();
+		while (iterator.hasNext()) {
+			if (iterator.next() % 2 == 0) {
+				iterator.remove();
+			}
+		}
+		list.removeIf(elm -> elm % 2 == 0);
+		assertTrue(isEqualsList(list, myList));
+
+		myList.clean();
+		assertEquals(16, myList.pooledNodes());
+		myList.add(1);
+		assertEquals(15, myList.pooledNodes());
+		assertEquals(1, myList.get(0));
+		myList.enableNodePool(4);
+		assertEquals(4, myList.pooledNodes());
+		myList.disableNodePool();
+		assertEquals(0, myList.pooledNodes());
+		myList.remove(0);
+		assertEquals(0, myList.pooledNodes());
+		assertThrows(IllegalArgumentException.class, () -> myList.enableNodePool(0));
+	}
+
 }
@@ -0,0 +1,84 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.fersko.collections.list.UtilsListForTest.fillList;
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapListTest {
+
+	@Test
+	void addGetAcrossChunks() {
+		List<Long> list = new ArrayList<>();
+		try (OffHeapList<Long> myList = new OffHeapList<>(ElementCodec.ofLong(), 4)) {
+			for (long i = 0; i < 100; i++) {
+				list.add(i * i);
+				myList.add(i * i);
+			}
+			list.add(0, -1L);
+			myList.add(0, -1L);
+			list.add(50, -2L);
+			myList.add(50, -2L);
+			assertTrue(isEqualsList(list, myList));
+			assertEquals(list.set(10, 77L), myList.set(10, 77L));
+			assertTrue(isEqualsList(list, myList));
+		}
+	}
+
+	@Test
+	void removeOffHeapList() {
+		List<Integer> list = new ArrayList<>();
+		try (OffHeapList<Integer> myList = new OffHeapList<>(ElementCodec.ofInt(), 2)) {
+			fillList(list, myList);
+			assertEquals(list.remove(3), myList.remove(3));
+			assertEquals(list.remove(Integer.valueOf(8)), myList.remove(Integer.valueOf(8)));
+			assertFalse(myList.remove(Integer.valueOf(100)));
+			list.subList(1, 3).clear();
+			myList.removeRange(1, 3);
+			assertTrue(isEqualsList(list, myList));
+			assertEquals(list.removeIf(i -> i % 2 == 0), myList.removeIf(i -> i % 2 == 0));
+			assertTrue(isEqualsList(list, myList));
+			assertThrows(NullPointerException.class, () -> myList.add(null));
+		}
+	}
+
+	@Test
+	void sortOffHeapList() {
+		List<Double> list = new ArrayList<>();
+		try (OffHeapList<Double> myList = new OffHeapList<>(ElementCodec.ofDouble(), 16)) {
+			Random random = new Random(5);
+			for (int i = 0; i < 1000; i++) {
+				double value = random.nextDouble();
+				list.add(value);
+				myList.add(value);
+			}
+			list.sort(Comparator.naturalOrder());
+			myList.sort(Comparator.naturalOrder());
+			assertTrue(isEqualsList(list, myList));
+		}
+	}
+
+	@Test
+	void closeOffHeapList() {
+		OffHeapList<Integer> myList = new OffHeapList<>(ElementCodec.ofInt());
+		myList.add(1);
+		myList.clean();
+		assertEquals(0, myList.size());
+		myList.add(2);
+		assertEquals(2, myList.get(0));
+		myList.close();
+		myList.close();
+		assertThrows(IllegalStateException.class, () -> myList.get(0));
+		assertThrows(IllegalStateException.class, () -> myList.add(3));
+	}
+
+}
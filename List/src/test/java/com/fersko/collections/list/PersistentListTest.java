@@ -0,0 +1,101 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.fersko.collections.list.UtilsListForTest.fillList;
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PersistentListTest {
+
+	@Test
+	void operationsPersistentList() {
+		List<Integer> list = new ArrayList<>();
+		PersistentList<Integer> myList = new PersistentList<>();
+		fillList(list, myList);
+		for (int i = 0; i < 100_000; i++) {
+			list.add(i % 97);
+			myList.add(i % 97);
+		}
+		list.add(3, -1);
+		myList.add(3, -1);
+		assertEquals(list.set(40_000, -2), myList.set(40_000, -2));
+		assertEquals(list.remove(7000), myList.remove(7000));
+		assertEquals(list.remove(list.size() - 1), myList.remove(myList.size() - 1));
+		assertEquals(list.remove(Integer.valueOf(50)), myList.remove(Integer.valueOf(50)));
+		assertEquals(list.indexOf(96), myList.indexOf(96));
+		assertEquals(list.lastIndexOf(96), myList.lastIndexOf(96));
+		list.subList(100, 5000).clear();
+		myList.removeRange(100, 5000);
+		assertEquals(list.removeIf(i -> i % 5 == 0), myList.removeIf(i -> i % 5 == 0));
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertTrue(isEqualsList(list, myList));
+		assertArrayEquals(list.toArray(), myList.toArray());
+		int i = 0;
+		for (Integer elm : myList) {
+			assertEquals(list.get(i++), elm);
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.get(list.size()));
+		myList.clean();
+		assertEquals(0, myList.size());
+	}
+
+	@Test
+	void removeLastShrinksTree() {
+		List<Integer> list = new ArrayList<>();
+		PersistentList<Integer> myList = new PersistentList<>();
+		for (int i = 0; i < 40_000; i++) {
+			list.add(i);
+			myList.add(i);
+		}
+		while (!list.isEmpty()) {
+			assertEquals(list.remove(list.size() - 1), myList.remove(myList.size() - 1));
+			if (list.size() % 1000 == 0) {
+				assertTrue(isEqualsList(list, myList));
+			}
+		}
+		myList.add(1);
+		assertEquals(1, myList.get(0));
+	}
+
+	@Test
+	void snapshotsAreIndependent() {
+		List<Integer> list = new ArrayList<>();
+		PersistentList<Integer> myList = new PersistentList<>();
+		for (int i = 0; i < 5000; i++) {
+			list.add(i);
+			myList.add(i);
+		}
+		List<Integer> expected = new ArrayList<>(list);
+		PersistentList<Integer> snapshot = myList.snapshot();
+
+		Random random = new Random(42);
+		for (int i = 0; i < 2000; i++) {
+			int idx = random.nextInt(list.size());
+			list.set(idx, -i);
+			myList.set(idx, -i);
+			list.add(i);
+			myList.add(i);
+		}
+		list.remove(list.size() - 1);
+		myList.remove(myList.size() - 1);
+		assertTrue(isEqualsList(list, myList));
+		assertTrue(isEqualsList(expected, snapshot));
+
+		snapshot.set(0, 100);
+		snapshot.add(101);
+		assertEquals(list.get(0), myList.get(0));
+		assertEquals(100, snapshot.get(0));
+		assertEquals(5001, snapshot.size());
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static com.fersko.collections.list.UtilsListForTest.fillList;
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferListTest {
+
+	@Test
+	void dequeRingBufferList() {
+		Deque<Integer> deque = new ArrayDeque<>();
+		RingBufferList<Integer> myList = new RingBufferList<>(4);
+		Random random = new Random(3);
+		for (int i = 0; i < 20_000; i++) {
+			int op = random.nextInt(4);
+			if (op == 0) {
+				deque.addFirst(i);
+				myList.addFirst(i);
+			} else if (op == 1) {
+				deque.addLast(i);
+				myList.addLast(i);
+			} else if (op == 2 && !deque.isEmpty()) {
+				assertEquals(deque.removeFirst(), myList.removeFirst());
+			} else if (!deque.isEmpty()) {
+				assertEquals(deque.removeLast(), myList.removeLast());
+			}
+			if (!deque.isEmpty()) {
+				assertEquals(deque.getFirst(), myList.getFirst());
+				assertEquals(deque.getLast(), myList.getLast());
+			}
+		}
+		assertArrayEquals(deque.toArray(), myList.toArray());
+		myList.clean();
+		assertThrows(NoSuchElementException.class, myList::removeFirst);
+		assertThrows(NoSuchElementException.class, myList::removeLast);
+		assertThrows(NoSuchElementException.class, myList::getFirst);
+	}
+
+	@Test
+	void operationsRingBufferList() {
+		List<Integer> list = new ArrayList<>();
+		RingBufferList<Integer> myList = new RingBufferList<>();
+		fillList(list, myList);
+		Random random = new Random(11);
+		for (int i = 0; i < 10_000; i++) {
+			int idx = random.nextInt(list.size() + 1);
+			switch (random.nextInt(6)) {
+				case 0:
+					list.add(0, i);
+					myList.addFirst(i);
+					break;
+				case 1:
+					list.add(idx, i);
+					myList.add(idx, i);
+					break;
+				case 2:
+					if (idx < list.size()) {
+						assertEquals(list.remove(idx), myList.remove(idx));
+					}
+					break;
+				case 3:
+					int toIdx = Math.min(list.size(), idx + random.nextInt(5));
+					list.subList(idx, toIdx).clear();
+					myList.removeRange(idx, toIdx);
+					break;
+				case 4:
+					if (idx < list.size()) {
+						assertEquals(list.set(idx, -i), myList.set(idx, -i));
+					}
+					break;
+				default:
+					list.add(i % 50);
+					myList.add(i % 50);
+			}
+		}
+		assertTrue(isEqualsList(list, myList));
+		assertEquals(list.indexOf(25), myList.indexOf(25));
+		assertEquals(list.lastIndexOf(25), myList.lastIndexOf(25));
+		assertEquals(list.remove(Integer.valueOf(25)), myList.remove(Integer.valueOf(25)));
+		assertEquals(list.removeIf(i -> i % 3 == 0), myList.removeIf(i -> i % 3 == 0));
+		assertTrue(isEqualsList(list, myList));
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertArrayEquals(list.toArray(), myList.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.get(list.size()));
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.add(-1, 0));
+	}
+
+	@Test
+	void wrappedSortRingBufferList() {
+		RingBufferList<Integer> myList = new RingBufferList<>(8);
+		for (int i = 0; i < 4; i++) {
+			myList.addLast(i);
+			myList.addFirst(10 - i);
+		}
+		assertArrayEquals(new Object[]{7, 8, 9, 10, 0, 1, 2, 3}, myList.toArray());
+		myList.sort(Comparator.naturalOrder());
+		assertArrayEquals(new Object[]{0, 1, 2, 3, 7, 8, 9, 10}, myList.toArray());
+		myList.addFirst(-1);
+		assertEquals(-1, myList.get(0));
+		assertEquals(9, myList.size());
+	}
+
+	@Test
+	void concurrentModificationRingBufferList() {
+		RingBufferList<Integer> myList = new RingBufferList<>();
+		myList.addAll(new Integer[]{1, 2, 3});
+		Iterator<Integer> iterator = myList.iterator();
+		iterator.next();
+		myList.removeFirst();
+		assertThrows(ConcurrentModificationException.class, iterator::next);
+		assertThrows(IllegalArgumentException.class, () -> new RingBufferList<>(0));
+	}
+
+}
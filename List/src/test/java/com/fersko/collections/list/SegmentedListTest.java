@@ -0,0 +1,132 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static com.fersko.collections.list.UtilsListForTest.fillList;
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentedListTest {
+
+	@Test
+	void operationsSegmentedList() {
+		List<Integer> list = new ArrayList<>();
+		SegmentedList<Integer> myList = new SegmentedList<>(8);
+		fillList(list, myList);
+		for (int i = 0; i < 10_000; i++) {
+			list.add(i % 97);
+			myList.add(i % 97);
+		}
+		Integer[] block = {-1, -2, -3, -4, -5, -6, -7, -8, -9};
+		list.addAll(List.of(block));
+		myList.addAll(block);
+		list.add(3, -1);
+		myList.add(3, -1);
+		assertEquals(list.set(4000, -2), myList.set(4000, -2));
+		assertEquals(list.remove(7000), myList.remove(7000));
+		assertEquals(list.remove(Integer.valueOf(50)), myList.remove(Integer.valueOf(50)));
+		assertEquals(list.indexOf(96), myList.indexOf(96));
+		assertEquals(list.lastIndexOf(96), myList.lastIndexOf(96));
+		list.subList(100, 5000).clear();
+		myList.removeRange(100, 5000);
+		assertEquals(list.removeIf(i -> i % 5 == 0), myList.removeIf(i -> i % 5 == 0));
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertTrue(isEqualsList(list, myList));
+		assertArrayEquals(list.toArray(), myList.toArray());
+		int i = 0;
+		for (Integer elm : myList) {
+			assertEquals(list.get(i++), elm);
+		}
+		assertEquals(list.size(), i);
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.get(list.size()));
+		myList.clean();
+		assertEquals(0, myList.size());
+	}
+
+	@Test
+	void randomInsertsAndRemovals() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new SegmentedList<>(4);
+		Random random = new Random(7);
+		for (int i = 0; i < 20_000; i++) {
+			int op = random.nextInt(4);
+			if (op < 2 || list.isEmpty()) {
+				int idx = random.nextInt(list.size() + 1);
+				list.add(idx, i);
+				myList.add(idx, i);
+			} else if (op == 2) {
+				int idx = random.nextInt(list.size());
+				assertEquals(list.remove(idx), myList.remove(idx));
+			} else {
+				int idx = random.nextInt(list.size());
+				assertEquals(list.get(idx), myList.get(idx));
+			}
+		}
+		assertTrue(isEqualsList(list, myList));
+		while (!list.isEmpty()) {
+			int from = random.nextInt(list.size());
+			int to = from + random.nextInt(list.size() - from + 1);
+			list.subList(from, to).clear();
+			myList.removeRange(from, to);
+			list.remove(0);
+			myList.remove(0);
+			assertTrue(isEqualsList(list, myList));
+		}
+	}
+
+	@Test
+	void growAndSortSegmentedList() {
+		List<Integer> list = new ArrayList<>();
+		SegmentedList<Integer> myList = new SegmentedList<>(16);
+		Random random = new Random(3);
+		for (int i = 0; i < 1000; i++) {
+			int elm = random.nextInt(50);
+			list.add(elm);
+			myList.add(elm);
+		}
+		assertEquals(1008, myList.capacity());
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertTrue(isEqualsList(list, myList));
+		myList.removeRange(10, 1000);
+		myList.trimToSize();
+		assertEquals(16, myList.capacity());
+		myList.clean();
+		assertEquals(0, myList.size());
+		myList.add(1);
+		assertEquals(1, myList.get(0));
+	}
+
+	@Test
+	void iteratorSegmentedList() {
+		SegmentedList<Integer> myList = new SegmentedList<>(4);
+		for (int i = 20; i > 0; i--) {
+			myList.add(i);
+		}
+		Iterator<Integer> iterator = myList.iterator();
+		assertEquals(20, iterator.next());
+		myList.sort(Comparator.naturalOrder());
+		assertThrows(ConcurrentModificationException.class, iterator::next);
+		Iterator<Integer> removed = myList.iterator();
+		removed.next();
+		myList.remove(0);
+		assertThrows(ConcurrentModificationException.class, removed::next);
+	}
+
+	@Test
+	void invalidChunkCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new SegmentedList<>(12));
+	}
+
+}
@@ -0,0 +1,140 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SortedListTest {
+
+	@Test
+	void operationsSortedList() {
+		List<Integer> list = new ArrayList<>();
+		SortedList<Integer> myList = new SortedList<>(Comparator.naturalOrder());
+		Random random = new Random(7);
+		for (int i = 0; i < 5000; i++) {
+			int elm = random.nextInt(1000);
+			list.add(elm);
+			myList.add(elm);
+		}
+		Collections.sort(list);
+		assertTrue(isEqualsList(list, myList));
+		for (int elm = -1; elm <= 1000; elm++) {
+			assertEquals(list.contains(elm), myList.contains(elm));
+			assertEquals(list.indexOf(elm), myList.indexOf(elm));
+			assertEquals(list.lastIndexOf(elm), myList.lastIndexOf(elm));
+		}
+
+		for (int i = 0; i < 1000; i++) {
+			Integer elm = random.nextInt(1000);
+			assertEquals(list.remove(elm), myList.remove(elm));
+		}
+		assertEquals(list.remove(100), myList.remove(100));
+		list.subList(10, 500).clear();
+		myList.removeRange(10, 500);
+		assertEquals(list.removeIf(i -> i % 3 == 0), myList.removeIf(i -> i % 3 == 0));
+		assertTrue(isEqualsList(list, myList));
+		assertArrayEquals(list.toArray(), myList.toArray());
+
+		myList.sort(Comparator.naturalOrder());
+		assertThrows(UnsupportedOperationException.class, () -> myList.sort(Comparator.reverseOrder()));
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.get(list.size()));
+		myList.clean();
+		assertEquals(0, myList.size());
+	}
+
+	@Test
+	void addAtIndexSortedList() {
+		SortedList<Integer> myList = new SortedList<>(Comparator.naturalOrder());
+		myList.addAll(new Integer[]{1, 3, 5});
+		myList.add(1, 2);
+		myList.add(4, 5);
+		assertArrayEquals(new Object[]{1, 2, 3, 5, 5}, myList.toArray());
+		assertThrows(IllegalArgumentException.class, () -> myList.add(0, 4));
+		assertThrows(IllegalArgumentException.class, () -> myList.add(5, 4));
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.add(6, 9));
+	}
+
+	@Test
+	void stableOrderSortedList() {
+		Comparator<String> byLength = Comparator.comparingInt(String::length);
+		SortedList<String> myList = new SortedList<>(byLength);
+		myList.add("bb");
+		myList.add("a");
+		myList.add("cc");
+		myList.add("d");
+		assertArrayEquals(new Object[]{"a", "d", "bb", "cc"}, myList.toArray());
+		assertTrue(myList.contains("zz"));
+		assertEquals(2, myList.indexOf("zz"));
+		assertEquals(3, myList.lastIndexOf("zz"));
+		assertFalse(myList.contains("eee"));
+	}
+
+	@Test
+	void rangeAndMergeSortedList() {
+		List<Integer> list = new ArrayList<>();
+		SortedList<Integer> first = new SortedList<>(Comparator.naturalOrder());
+		SortedList<Integer> second = new SortedList<>(Comparator.naturalOrder());
+		for (int i = 0; i < 1000; i++) {
+			list.add(i % 300);
+			list.add(i % 7 * 40);
+			first.add(i % 300);
+			second.add(i % 7 * 40);
+		}
+		Collections.sort(list);
+
+		SortedList<Integer> merged = SortedList.merge(first, second);
+		assertTrue(isEqualsList(list, merged));
+		SortedList<Integer> added = new SortedList<>(Comparator.naturalOrder());
+		added.addAll(second);
+		added.addAll(first);
+		assertTrue(isEqualsList(list, added));
+		SortedList<Integer> fromIterable = new SortedList<>(Comparator.naturalOrder());
+		fromIterable.addAll(new ArrayList<>(list));
+		assertTrue(isEqualsList(list, fromIterable));
+
+		SortedList<Integer> range = merged.subList(40, 120);
+		List<Integer> expected = list.subList(list.indexOf(40), list.indexOf(120));
+		assertTrue(isEqualsList(expected, range));
+		assertEquals(0, merged.subList(-10, -1).size());
+		assertEquals(merged.size(), merged.subList(-1, 1000).size());
+		assertThrows(IllegalArgumentException.class, () -> merged.subList(5, 1));
+		assertThrows(IllegalArgumentException.class,
+				() -> SortedList.merge(first, new SortedList<>(Comparator.reverseOrder())));
+	}
+
+	@Test
+	void listIteratorSortedList() {
+		SortedList<Integer> myList = new SortedList<>(Comparator.naturalOrder());
+		myList.addAll(new Integer[]{1, 3, 5, 7});
+		ListIterator<Integer> iterator = myList.listIterator();
+		assertEquals(1, iterator.next());
+		assertThrows(IllegalArgumentException.class, () -> iterator.set(10));
+		assertArrayEquals(new Object[]{1, 3, 5, 7}, myList.toArray());
+		iterator.set(2);
+		assertEquals(3, iterator.next());
+		iterator.remove();
+		assertEquals(5, iterator.next());
+		assertEquals(5, iterator.previous());
+		assertEquals(2, iterator.previous());
+		assertThrows(UnsupportedOperationException.class, () -> iterator.add(0));
+		assertArrayEquals(new Object[]{2, 5, 7}, myList.toArray());
+		assertThrows(IllegalArgumentException.class, () -> myList.set(2, 4));
+		assertEquals(7, myList.set(2, 6));
+		myList.add(4);
+		assertThrows(ConcurrentModificationException.class, iterator::next);
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.fersko.collections.list.UtilsListForTest.fillList;
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StripedListTest {
+
+	private static final int THREADS = 8;
+
+	@Test
+	void singleThreadStripedList() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new StripedList<>(2);
+		fillList(list, myList);
+		for (int i = 0; i < 10_000; i++) {
+			list.add(i % 97);
+			myList.add(i % 97);
+		}
+		list.add(3, -1);
+		myList.add(3, -1);
+		assertEquals(list.remove(7000), myList.remove(7000));
+		assertEquals(list.remove(Integer.valueOf(50)), myList.remove(Integer.valueOf(50)));
+		assertEquals(list.indexOf(96), myList.indexOf(96));
+		assertEquals(list.lastIndexOf(96), myList.lastIndexOf(96));
+		list.subList(100, 5000).clear();
+		myList.removeRange(100, 5000);
+		assertEquals(list.removeIf(i -> i % 5 == 0), myList.removeIf(i -> i % 5 == 0));
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertTrue(isEqualsList(list, myList));
+		myList.clean();
+		assertEquals(0, myList.size());
+	}
+
+	@Test
+	void concurrentAppendsStripedList() throws Exception {
+		StripedList<Integer> myList = new StripedList<>();
+		int perThread = 20_000;
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			int base = t * perThread;
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < perThread; i++) {
+					myList.add(base + i);
+				}
+				return null;
+			}));
+		}
+		futures.add(executor.submit(() -> {
+			start.await();
+			while (myList.size() < THREADS * perThread) {
+				int size = myList.size();
+				if (size > 0) {
+					assertNotNull(myList.get(size - 1));
+				}
+			}
+			return null;
+		}));
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertEquals(THREADS * perThread, myList.size());
+		myList.sort(Comparator.naturalOrder());
+		for (int i = 0; i < THREADS * perThread; i++) {
+			assertEquals(i, myList.get(i));
+		}
+	}
+
+	@Test
+	void concurrentMixedStripedList() throws Exception {
+		StripedList<Integer> myList = new StripedList<>();
+		int perThread = 5_000;
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			boolean remover = t % 2 == 0;
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < perThread; i++) {
+					myList.add(i);
+					myList.add(i);
+					if (remover) {
+						myList.remove(0);
+					} else {
+						myList.contains(i);
+					}
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+		assertEquals(THREADS * perThread * 2 - THREADS / 2 * perThread, myList.size());
+	}
+
+}
@@ -0,0 +1,175 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static com.fersko.collections.list.UtilsListForTest.fillList;
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TreeListTest {
+
+	@Test
+	void operationsTreeList() {
+		List<Integer> list = new ArrayList<>();
+		TreeList<Integer> myList = new TreeList<>();
+		fillList(list, myList);
+		for (int i = 0; i < 10_000; i++) {
+			list.add(i % 97);
+			myList.add(i % 97);
+		}
+		Integer[] block = {-1, -2, -3, -4, -5, -6, -7, -8, -9};
+		list.addAll(List.of(block));
+		myList.addAll(block);
+		list.add(3, -1);
+		myList.add(3, -1);
+		assertEquals(list.set(4000, -2), myList.set(4000, -2));
+		assertEquals(list.remove(7000), myList.remove(7000));
+		assertEquals(list.remove(Integer.valueOf(50)), myList.remove(Integer.valueOf(50)));
+		assertEquals(list.indexOf(96), myList.indexOf(96));
+		assertEquals(list.lastIndexOf(96), myList.lastIndexOf(96));
+		list.subList(100, 5000).clear();
+		myList.removeRange(100, 5000);
+		assertEquals(list.removeIf(i -> i % 5 == 0), myList.removeIf(i -> i % 5 == 0));
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertTrue(isEqualsList(list, myList));
+		assertArrayEquals(list.toArray(), myList.toArray());
+		int i = 0;
+		for (Integer elm : myList) {
+			assertEquals(list.get(i++), elm);
+		}
+		assertEquals(list.size(), i);
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.get(list.size()));
+		myList.clean();
+		assertEquals(0, myList.size());
+	}
+
+	@Test
+	void randomInsertsAndRemovals() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new TreeList<>();
+		Random random = new Random(7);
+		for (int i = 0; i < 20_000; i++) {
+			int op = random.nextInt(4);
+			if (op < 2 || list.isEmpty()) {
+				int idx = random.nextInt(list.size() + 1);
+				list.add(idx, i);
+				myList.add(idx, i);
+			} else if (op == 2) {
+				int idx = random.nextInt(list.size());
+				assertEquals(list.remove(idx), myList.remove(idx));
+			} else {
+				int idx = random.nextInt(list.size());
+				assertEquals(list.get(idx), myList.get(idx));
+			}
+		}
+		assertTrue(isEqualsList(list, myList));
+		while (!list.isEmpty()) {
+			int from = random.nextInt(list.size());
+			int to = from + random.nextInt(list.size() - from + 1);
+			list.subList(from, to).clear();
+			myList.removeRange(from, to);
+			list.remove(0);
+			myList.remove(0);
+			assertTrue(isEqualsList(list, myList));
+		}
+	}
+
+	@Test
+	void shortRangeRemovalTreeList() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new TreeList<>();
+		for (int i = 0; i < 1000; i++) {
+			list.add(i);
+			myList.add(i);
+		}
+		list.subList(500, 510).clear();
+		myList.removeRange(500, 510);
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void listIteratorTreeList() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new TreeList<>();
+		fillList(list, myList);
+		ListIterator<Integer> it = list.listIterator();
+		ListIterator<Integer> myIt = myList.listIterator();
+		while (it.hasNext()) {
+			int elm = it.next();
+			assertEquals(elm, myIt.next());
+			if (elm % 2 == 0) {
+				it.remove();
+				myIt.remove();
+			} else {
+				it.set(-elm);
+				myIt.set(-elm);
+				it.add(elm);
+				myIt.add(elm);
+			}
+		}
+		assertTrue(isEqualsList(list, myList));
+		myList.add(1);
+		assertThrows(ConcurrentModificationException.class, myIt::previous);
+
+		ListIterator<Integer> sorted = myList.listIterator();
+		sorted.next();
+		sorted.set(100);
+		assertEquals(100, myList.get(0));
+		myList.sort(Comparator.naturalOrder());
+		assertThrows(ConcurrentModificationException.class, sorted::next);
+	}
+
+	@Test
+	void addAllBatchesTreeList() {
+		List<Integer> list = new ArrayList<>();
+		TreeList<Integer> myList = new TreeList<>();
+		Integer[] large = new Integer[1000];
+		for (int i = 0; i < large.length; i++) {
+			large[i] = i;
+		}
+		list.addAll(List.of(large));
+		myList.addAll(large);
+		for (int i = 0; i < 500; i++) {
+			Integer[] small = {-i, i};
+			list.addAll(List.of(small));
+			myList.addAll(small);
+		}
+		list.addAll(List.of(large));
+		myList.addAll(large);
+		myList.addAll(new Integer[0]);
+		assertTrue(isEqualsList(list, myList));
+		list.add(1000, -1);
+		myList.add(1000, -1);
+		assertEquals(list.remove(1500), myList.remove(1500));
+		assertTrue(isEqualsList(list, myList));
+	}
+
+	@Test
+	void iteratorTreeList() {
+		TreeList<Integer> myList = new TreeList<>();
+		for (int i = 20; i > 0; i--) {
+			myList.add(i);
+		}
+		Iterator<Integer> iterator = myList.iterator();
+		assertEquals(20, iterator.next());
+		myList.sort(Comparator.naturalOrder());
+		assertThrows(ConcurrentModificationException.class, iterator::next);
+		Iterator<Integer> added = myList.iterator();
+		added.next();
+		myList.add(0, 0);
+		assertThrows(ConcurrentModificationException.class, added::next);
+	}
+
+}
@@ -0,0 +1,160 @@
+package com.fersko.collections.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static com.fersko.collections.list.UtilsListForTest.fillList;
+import static com.fersko.collections.list.UtilsListForTest.isEqualsList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UnrolledLinkedListTest {
+
+	@Test
+	void operationsUnrolledLinkedList() {
+		List<Integer> list = new ArrayList<>();
+		UnrolledLinkedList<Integer> myList = new UnrolledLinkedList<>(8);
+		fillList(list, myList);
+		for (int i = 0; i < 10_000; i++) {
+			list.add(i % 97);
+			myList.add(i % 97);
+		}
+		Integer[] block = {-1, -2, -3, -4, -5, -6, -7, -8, -9};
+		list.addAll(List.of(block));
+		myList.addAll(block);
+		list.add(3, -1);
+		myList.add(3, -1);
+		assertEquals(list.set(4000, -2), myList.set(4000, -2));
+		assertEquals(list.remove(7000), myList.remove(7000));
+		assertEquals(list.remove(Integer.valueOf(50)), myList.remove(Integer.valueOf(50)));
+		assertEquals(list.indexOf(96), myList.indexOf(96));
+		assertEquals(list.lastIndexOf(96), myList.lastIndexOf(96));
+		list.subList(100, 5000).clear();
+		myList.removeRange(100, 5000);
+		assertEquals(list.removeIf(i -> i % 5 == 0), myList.removeIf(i -> i % 5 == 0));
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		assertTrue(isEqualsList(list, myList));
+		assertArrayEquals(list.toArray(), myList.toArray());
+		int i = 0;
+		for (Integer elm : myList) {
+			assertEquals(list.get(i++), elm);
+		}
+		assertEquals(list.size(), i);
+		assertThrows(IndexOutOfBoundsException.class, () -> myList.get(list.size()));
+		myList.clean();
+		assertEquals(0, myList.size());
+	}
+
+	@Test
+	void randomInsertsAndRemovals() {
+		List<Integer> list = new ArrayList<>();
+		MyList<Integer> myList = new UnrolledLinkedList<>(4);
+		Random random = new Random(7);
+		for (int i = 0; i < 20_000; i++) {
+			int op = random.nextInt(4);
+			if (op < 2 || list.isEmpty()) {
+				int idx = random.nextInt(list.size() + 1);
+				list.add(idx, i);
+				myList.add(idx, i);
+			} else if (op == 2) {
+				int idx = random.nextInt(list.size());
+				assertEquals(list.remove(idx), myList.remove(idx));
+			} else {
+				int idx = random.nextInt(list.size());
+				assertEquals(list.get(idx), myList.get(idx));
+			}
+		}
+		assertTrue(isEqualsList(list, myList));
+		while (!list.isEmpty()) {
+			int from = random.nextInt(list.size());
+			int to = from + random.nextInt(list.size() - from + 1);
+			list.subList(from, to).clear();
+			myList.removeRange(from, to);
+			list.remove(0);
+			myList.remove(0);
+			assertTrue(isEqualsList(list, myList));
+		}
+	}
+
+	@Test
+	void listIteratorUnrolledLinkedList() {
+		List<Integer> list = new ArrayList<>();
+		UnrolledLinkedList<Integer> myList = new UnrolledLinkedList<>(4);
+		ListIterator<Integer> expected = list.listIterator();
+		ListIterator<Integer> actual = myList.listIterator();
+		Random random = new Random(21);
+		for (int i = 0; i < 20_000; i++) {
+			switch (random.nextInt(6)) {
+				case 0:
+				case 1:
+					expected.add(i);
+					actual.add(i);
+					break;
+				case 2:
+					if (expected.hasNext()) {
+						assertEquals(expected.next(), actual.next());
+					}
+					break;
+				case 3:
+					if (expected.hasPrevious()) {
+						assertEquals(expected.previous(), actual.previous());
+					}
+					break;
+				case 4:
+					if (expected.hasNext()) {
+						assertEquals(expected.next(), actual.next());
+						expected.remove();
+						actual.remove();
+					} else if (expected.hasPrevious()) {
+						assertEquals(expected.previous(), actual.previous());
+						expected.remove();
+						actual.remove();
+					}
+					break;
+				default:
+					if (expected.hasPrevious()) {
+						assertEquals(expected.previous(), actual.previous());
+						expected.set(-i);
+						actual.set(-i);
+					}
+			}
+			assertEquals(expected.nextIndex(), actual.nextIndex());
+		}
+		assertTrue(isEqualsList(list, myList));
+		assertThrows(IllegalStateException.class, actual::remove);
+		myList.add(1);
+		assertThrows(ConcurrentModificationException.class, actual::next);
+
+		Iterator<Integer> iterator = myList.iterator();
+		iterator.next();
+		myList.sort(Comparator.naturalOrder());
+		assertThrows(ConcurrentModificationException.class, iterator::next);
+
+		ListIterator<Integer> drain = myList.listIterator();
+		while (drain.hasNext()) {
+			drain.next();
+			drain.remove();
+		}
+		assertEquals(0, myList.size());
+		drain.add(1);
+		drain.add(2);
+		assertEquals(2, drain.previous());
+		assertArrayEquals(new Object[]{1, 2}, myList.toArray());
+	}
+
+	@Test
+	void invalidNodeCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<>(1));
+	}
+
+}
@@ -1,6 +1,14 @@
 package com.fersko.collections.list;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class UtilsListForTest<T> {
 	public static <T> boolean isEqualsList(List<T> list, MyList<T> myList) {
@@ -24,4 +32,111 @@ public class UtilsListForTest<T> {
 		}
 	}
 
+	/**
+	 * Runs random changes, null elements included, on a list with the position index enabled and
+	 * holding the single element 7, checking contains, indexOf and lastIndexOf against ArrayList.
+	 */
+	public static void checkPositionIndex(MyList<Integer> myList) {
+		List<Integer> list = new ArrayList<>();
+		list.add(7);
+		Random random = new Random(42);
+		for (int i = 0; i < 5000; i++) {
+			Integer elm = random.nextInt(50) == 0 ? null : random.nextInt(200);
+			int idx = random.nextInt(list.size() + 1);
+			switch (random.nextInt(12)) {
+				case 0:
+					list.add(idx, elm);
+					myList.add(idx, elm);
+					break;
+				case 1:
+					if (idx < list.size()) {
+						assertEquals(list.remove(idx), myList.remove(idx));
+					}
+					break;
+				case 2:
+					assertEquals(list.remove(elm), myList.remove(elm));
+					break;
+				case 3:
+					if (!list.isEmpty()) {
+						assertEquals(list.remove(list.size() - 1), myList.remove(myList.size() - 1));
+					}
+					break;
+				case 4:
+					list.addAll(Arrays.asList(elm, elm));
+					myList.addAll(Arrays.asList(elm, elm));
+					break;
+				case 5:
+					int toIdx = Math.min(list.size(), idx + random.nextInt(4));
+					list.subList(idx, toIdx).clear();
+					myList.removeRange(idx, toIdx);
+					break;
+				case 6:
+					ListIterator<Integer> expected = list.listIterator(idx);
+					ListIterator<Integer> actual = myList.listIterator();
+					for (int j = 0; j < idx; j++) {
+						actual.next();
+					}
+					if (expected.hasNext()) {
+						assertEquals(expected.next(), actual.next());
+						expected.remove();
+						actual.remove();
+					}
+					expected.add(elm);
+					actual.add(elm);
+					break;
+				case 7:
+					if (idx < list.size()) {
+						assertEquals(list.set(idx, elm), myList.set(idx, elm));
+					}
+					break;
+				default:
+					list.add(elm);
+					myList.add(elm);
+			}
+			assertEquals(list.contains(elm), myList.contains(elm));
+			assertEquals(list.indexOf(elm), myList.indexOf(elm));
+			assertEquals(list.lastIndexOf(elm), myList.lastIndexOf(elm));
+		}
+		assertEquals(list.size(), myList.size());
+		for (int i = 0; i < list.size(); i++) {
+			assertEquals(list.get(i), myList.get(i));
+		}
+
+		// Membership checks and removals by element alternate, as in deduplication.
+		for (int i = 0; i < 2000; i++) {
+			Integer elm = random.nextInt(250);
+			assertEquals(list.contains(elm), myList.contains(elm));
+			assertEquals(list.remove(elm), myList.remove(elm));
+			if (i % 3 == 0) {
+				int idx = random.nextInt(list.size() + 1);
+				list.add(idx, elm);
+				myList.add(idx, elm);
+			}
+			assertEquals(list.contains(elm), myList.contains(elm));
+		}
+		assertEquals(list.size(), myList.size());
+		for (int i = 0; i < list.size(); i++) {
+			assertEquals(list.get(i), myList.get(i));
+		}
+
+		list.removeIf(elm -> elm == null || elm % 3 == 0);
+		myList.removeIf(elm -> elm == null || elm % 3 == 0);
+		list.sort(Comparator.naturalOrder());
+		myList.sort(Comparator.naturalOrder());
+		ListIterator<Integer> iterator = myList.listIterator();
+		iterator.next();
+		iterator.set(-1);
+		list.set(0, -1);
+		for (int elm = -1; elm < 250; elm++) {
+			assertEquals(list.contains(elm), myList.contains(elm));
+			assertEquals(list.indexOf(elm), myList.indexOf(elm));
+			assertEquals(list.lastIndexOf(elm), myList.lastIndexOf(elm));
+		}
+
+		myList.clean();
+		assertFalse(myList.contains(-1));
+		myList.add(-1);
+		assertEquals(0, myList.indexOf(-1));
+	}
+
 }